@@ -0,0 +1,133 @@
+package CloudsimExamplePackage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+// ====================================================================
+// Loop DBO dengan batas waktu / jumlah evaluasi dan early stopping.
+// Berhenti pada kondisi pertama yang terpenuhi:
+//   - maxIter iterasi selesai (perilaku lama)
+//   - dboTimeBudgetMs terlampaui (wall-clock)
+//   - iterasi berikutnya akan melewati dboEvalBudget evaluasi fitness
+//   - bestFitness tidak membaik selama dboStallIters iterasi berturut-turut
+// Nilai 0 berarti batas tersebut tidak aktif. Per iterasi dicatat
+// best/mean fitness, waktu, dan jumlah evaluasi (convergence trace).
+// ====================================================================
+final class AnytimeDbo {
+
+    enum StopReason { MAX_ITER, TIME_BUDGET, EVAL_BUDGET, STALLED }
+
+    private AnytimeDbo() {
+    }
+
+    static final class Result {
+        final int iterations;
+        final StopReason reason;
+        final double elapsedMs;
+
+        Result(int iterations, StopReason reason, double elapsedMs) {
+            this.iterations = iterations;
+            this.reason = reason;
+            this.elapsedMs = elapsedMs;
+        }
+    }
+
+    static Result run(DboPopulation population, SimulationConfig cfg, ConvergenceTrace trace) {
+        long start = System.nanoTime();
+        long timeBudget = cfg.dboTimeBudgetMs * 1_000_000L;
+        int size = population.fit.length;
+
+        if (trace != null) trace.record(0, population, 0);
+
+        int iter = 0;
+        int stall = 0;
+        StopReason reason = StopReason.MAX_ITER;
+        while (iter < cfg.maxIter) {
+            if (cfg.dboEvalBudget > 0 && population.evaluations + size > cfg.dboEvalBudget) {
+                reason = StopReason.EVAL_BUDGET;
+                break;
+            }
+
+            double before = population.bestFitness;
+            population.iterate();
+            iter++;
+            long elapsed = System.nanoTime() - start;
+            if (trace != null) trace.record(iter, population, elapsed);
+
+            stall = population.bestFitness < before ? 0 : stall + 1;
+            if (iter < cfg.maxIter) {
+                if (timeBudget > 0 && elapsed >= timeBudget) {
+                    reason = StopReason.TIME_BUDGET;
+                    break;
+                }
+                if (cfg.dboStallIters > 0 && stall >= cfg.dboStallIters) {
+                    reason = StopReason.STALLED;
+                    break;
+                }
+            }
+        }
+        return new Result(iter, reason, (System.nanoTime() - start) / 1e6);
+    }
+
+    // ====================================================================
+    // Convergence trace: satu baris per iterasi, ditulis ke CSV
+    // ====================================================================
+
+    static final class ConvergenceTrace {
+        private int size;
+        private int[] iteration = new int[64];
+        private double[] best = new double[64];
+        private double[] mean = new double[64];
+        private double[] elapsedMs = new double[64];
+        private long[] evaluations = new long[64];
+
+        void record(int iter, DboPopulation population, long elapsedNanos) {
+            if (size == iteration.length) {
+                int grown = size * 2;
+                iteration = Arrays.copyOf(iteration, grown);
+                best = Arrays.copyOf(best, grown);
+                mean = Arrays.copyOf(mean, grown);
+                elapsedMs = Arrays.copyOf(elapsedMs, grown);
+                evaluations = Arrays.copyOf(evaluations, grown);
+            }
+            double sum = 0;
+            for (double f : population.fit) sum += f;
+            iteration[size] = iter;
+            best[size] = population.bestFitness;
+            mean[size] = sum / population.fit.length;
+            elapsedMs[size] = elapsedNanos / 1e6;
+            evaluations[size] = population.evaluations;
+            size++;
+        }
+
+        // Ditulis ke file sementara lalu di-rename, aman walau beberapa worker menulis bersamaan
+        void write(Path file) throws IOException {
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try {
+                try (BufferedWriter w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                    w.write("iteration,bestFitness,meanFitness,elapsedMs,evaluations");
+                    w.newLine();
+                    for (int i = 0; i < size; i++) {
+                        w.write(iteration[i] + "," + best[i] + "," + mean[i] + "," + elapsedMs[i] + "," + evaluations[i]);
+                        w.newLine();
+                    }
+                }
+                try {
+                    Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package CloudsimExamplePackage;
+
+import org.cloudbus.cloudsim.Vm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// ====================================================================
+// Surrogate analitik untuk CloudSim.startSimulation: memperkirakan
+// metrik satu jadwal tanpa event queue (O(n log n) per jadwal), untuk
+// menyaring ribuan kandidat jadwal atau sel sweep sebelum simulasi penuh.
+//
+// Berbeda dengan fitness DBO (sum length / mips per VM), model ini
+// mengikuti perilaku CloudSim 3.0.3 pada topologi run (Topology):
+//  - Penempatan VM: broker mengirim semua VM ke datacenter pertama dan
+//    VM yang ditolak ke datacenter berikutnya. VmAllocationPolicySimple
+//    (dan IndexedVmAllocationPolicy) memilih host dengan PE bebas
+//    terbanyak; Host.vmCreate menolak VM jika storage, RAM, BW, atau
+//    MIPS host (spesifikasi per kelas host di Topology) tidak cukup. Karena
+//    VmSchedulerTimeShared tidak pernah overcommit, VM yang dibuat
+//    mendapat MIPS penuh: kontensi host muncul sebagai VM yang pindah
+//    host/datacenter atau tidak dibuat sama sekali.
+//  - Eksekusi: CloudletSchedulerTimeShared membagi mips*P VM (P = PE VM)
+//    rata ke pes-in-use cloudlet aktif, dan cloudlet dengan p PE harus
+//    menyelesaikan total length L*p. Dengan k cloudlet aktif, setiap
+//    cloudlet maju min(mips, mips*P / (k*p)) MI length per detik (processor
+//    sharing, dibatasi mips per PE). Semua cloudlet tiba bersamaan, jadi
+//    cloudlet terpendek selesai lebih dulu; untuk P = p = 1 cloudlet ke-k
+//    (urut naik) selesai pada START_TIME + (L_1 + ... + (n - k + 1) * L_k) / mips.
+//  - Cloudlet untuk VM yang tidak dibuat dilewati broker. Tanpa
+//    assignment (No Scheduling) broker membagi round robin atas urutan
+//    VM yang berhasil dibuat.
+//
+// Tidak dimodelkan: pembulatan MI di ResCloudlet dan jeda minimum antar
+// event, yang menggeser finish time dalam orde 0.01 detik.
+// ====================================================================
+final class ContentionModel {
+
+    // Cloudlet mulai dieksekusi setelah round-trip pembuatan VM (Start Time di output CloudSim)
+    static final double START_TIME = 0.1;
+
+    private final int[] vmIds;          // ID CloudSim per indeks VM (urutan vmList)
+    private final int[] vmDatacenter;   // indeks datacenter per indeks VM, -1 jika gagal dibuat
+    private final int[] createdOrder;   // indeks VM yang berhasil dibuat, urutan getVmsCreatedList
+    private final double[] vmMips;      // MIPS per PE VM
+    private final int[] vmPes;
+    private final int cloudletPes;      // PE per cloudlet (pesPerVm di loadCloudletsFromDataset)
+    private final int datacenterCount;
+
+    private ContentionModel(int[] vmIds, int[] vmDatacenter, int[] createdOrder, double[] vmMips, int[] vmPes,
+                            int cloudletPes, int datacenterCount) {
+        this.vmIds = vmIds;
+        this.vmDatacenter = vmDatacenter;
+        this.createdOrder = createdOrder;
+        this.vmMips = vmMips;
+        this.vmPes = vmPes;
+        this.cloudletPes = cloudletPes;
+        this.datacenterCount = datacenterCount;
+    }
+
+    static ContentionModel of(SimulationConfig cfg, List<Vm> vms) {
+        return of(Topology.of(cfg), vms, cfg.pesPerVm);
+    }
+
+    // Replay penempatan VM seperti DatacenterBroker + VmAllocationPolicySimple
+    static ContentionModel of(Topology topology, List<Vm> vms, int cloudletPes) {
+        if (cloudletPes < 1) throw new IllegalArgumentException("cloudletPes must be >= 1: " + cloudletPes);
+        int m = vms.size();
+        int[] vmIds = new int[m];
+        int[] vmDatacenter = new int[m];
+        double[] vmMips = new double[m];
+        int[] vmPes = new int[m];
+        Arrays.fill(vmDatacenter, -1);
+        List<Integer> pending = new ArrayList<>(m);
+        for (int j = 0; j < m; j++) {
+            Vm vm = vms.get(j);
+            vmIds[j] = vm.getId();
+            vmMips[j] = vm.getMips();
+            vmPes[j] = vm.getNumberOfPes();
+            pending.add(j);
+        }
+
+        int[] created = new int[m];
+        int createdCount = 0;
+        for (int dc = 0; dc < topology.datacenterCount && !pending.isEmpty(); dc++) {
+            Topology.HostClass[] specs = topology.hosts(dc);
+            int hosts = specs.length;
+            int[] pes = new int[hosts];
+            int[] peMips = new int[hosts];
+            int[] ram = new int[hosts];
+            long[] bw = new long[hosts];
+            long[] storage = new long[hosts];
+            double[] mips = new double[hosts];
+            for (int h = 0; h < hosts; h++) {
+                pes[h] = specs[h].pes;
+                peMips[h] = specs[h].peMips;
+                ram[h] = specs[h].ram;
+                bw[h] = specs[h].bw;
+                storage[h] = specs[h].storage;
+                mips[h] = (double) specs[h].pes * specs[h].peMips;
+            }
+            FreePesIndex freePes = new FreePesIndex(pes);
+
+            List<Integer> rejected = new ArrayList<>();
+            for (int j : pending) {
+                if (allocate(vms.get(j), freePes, peMips, ram, bw, storage, mips)) {
+                    vmDatacenter[j] = dc;
+                    created[createdCount++] = j;
+                } else {
+                    rejected.add(j);
+                }
+            }
+            pending = rejected;
+        }
+        return new ContentionModel(vmIds, vmDatacenter, Arrays.copyOf(created, createdCount),
+                vmMips, vmPes, cloudletPes, topology.datacenterCount);
+    }
+
+    // Host dengan PE bebas terbanyak dicoba lebih dulu (indeks terkecil jika seri)
+    private static boolean allocate(Vm vm, FreePesIndex freePes, int[] peMips, int[] ram, long[] bw,
+                                    long[] storage, double[] mips) {
+        double requested = vm.getMips() * vm.getNumberOfPes();
+        for (int h = freePes.first(); h >= 0; h = freePes.next(h)) {
+            if (storage[h] >= vm.getSize() && ram[h] >= vm.getRam() && bw[h] >= vm.getBw()
+                    && vm.getMips() <= peMips[h] && mips[h] >= requested) {
+                storage[h] -= vm.getSize();
+                ram[h] -= vm.getRam();
+                bw[h] -= vm.getBw();
+                mips[h] -= requested;
+                freePes.add(h, -vm.getNumberOfPes());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Estimasi metrik satu jadwal; assignment null = No Scheduling (round robin broker)
+    RunMetrics evaluate(SchedulingModel model, int[] assignment) {
+        if (model.vmCount != vmIds.length) {
+            throw new IllegalArgumentException("Model has " + model.vmCount + " VMs, placement has " + vmIds.length);
+        }
+        int n = model.cloudletCount;
+        int m = vmIds.length;
+
+        // Cloudlet per VM (counting sort), -1 untuk cloudlet yang dilewati broker
+        int[] target = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (assignment == null) {
+                target[i] = createdOrder.length == 0 ? -1 : createdOrder[i % createdOrder.length];
+            } else {
+                target[i] = vmDatacenter[assignment[i]] >= 0 ? assignment[i] : -1;
+            }
+        }
+        int[] offset = new int[m + 1];
+        for (int t : target) if (t >= 0) offset[t + 1]++;
+        for (int j = 0; j < m; j++) offset[j + 1] += offset[j];
+        long[] sorted = new long[offset[m]];
+        int[] fill = Arrays.copyOf(offset, m);
+        for (int i = 0; i < n; i++) {
+            if (target[i] >= 0) sorted[fill[target[i]]++] = model.length[i];
+        }
+
+        int[] createdIds = new int[createdOrder.length];
+        int[] createdDc = new int[createdOrder.length];
+        for (int k = 0; k < createdOrder.length; k++) {
+            createdIds[k] = vmIds[createdOrder[k]];
+            createdDc[k] = vmDatacenter[createdOrder[k]];
+        }
+        RunMetrics metrics = new RunMetrics(createdIds, createdDc, datacenterCount);
+
+        // Processor sharing per VM: setiap cloudlet aktif maju min(mips, mips*P / (aktif*p)) MI/detik
+        for (int j = 0; j < m; j++) {
+            int from = offset[j], to = offset[j + 1];
+            if (from == to) continue;
+            Arrays.sort(sorted, from, to);
+            double mips = vmMips[j];
+            double shared = mips * vmPes[j] / cloudletPes;
+            double time = START_TIME;
+            double done = 0;
+            for (int k = from; k < to; k++) {
+                time += (sorted[k] - done) / Math.min(mips, shared / (to - k));
+                done = sorted[k];
+                metrics.add(vmIds[j], time - START_TIME, 0, START_TIME, time);
+            }
+        }
+        return metrics;
+    }
+
+    // Korelasi Spearman (rank rata-rata untuk nilai seri), untuk validasi urutan surrogate vs simulasi
+    static double spearman(double[] a, double[] b) {
+        double[] ra = ranks(a), rb = ranks(b);
+        double meanA = 0, meanB = 0;
+        for (int i = 0; i < ra.length; i++) {
+            meanA += ra[i];
+            meanB += rb[i];
+        }
+        meanA /= ra.length;
+        meanB /= rb.length;
+        double cov = 0, varA = 0, varB = 0;
+        for (int i = 0; i < ra.length; i++) {
+            cov += (ra[i] - meanA) * (rb[i] - meanB);
+            varA += (ra[i] - meanA) * (ra[i] - meanA);
+            varB += (rb[i] - meanB) * (rb[i] - meanB);
+        }
+        return (varA == 0 || varB == 0) ? Double.NaN : cov / Math.sqrt(varA * varB);
+    }
+
+    private static double[] ranks(double[] values) {
+        Integer[] order = new Integer[values.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (x, y) -> Double.compare(values[x], values[y]));
+        double[] ranks = new double[values.length];
+        for (int i = 0; i < order.length; ) {
+            int j = i;
+            while (j + 1 < order.length && values[order[j + 1]] == values[order[i]]) j++;
+            for (int k = i; k <= j; k++) ranks[order[k]] = (i + j) / 2.0;
+            i = j + 1;
+        }
+        return ranks;
+    }
+}
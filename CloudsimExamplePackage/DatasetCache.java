@@ -0,0 +1,224 @@
+package CloudsimExamplePackage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+// ====================================================================
+// Cache dataset hasil parsing. Kolom length/fileSize/outputSize
+// disimpan di memori selama proses berjalan (dipakai ulang oleh ke-10
+// run) dan di file biner sidecar "<dataset>.cols" di samping dataset
+// teks, sehingga invocation berikutnya (termasuk JVM worker) cukup
+// memetakan file tersebut tanpa parsing ulang.
+//
+// Sidecar divalidasi dengan ukuran dan mtime file sumber; jika mtime
+// berubah tetapi ukuran sama, hash isi file dibandingkan dan, jika
+// cocok, mtime di header diperbarui agar invocation berikutnya tidak
+// hashing ulang. Payload juga punya checksum sendiri. Cache yang basi
+// atau rusak dibangun ulang.
+//
+// Payload ditulis dan dibaca per potongan CHUNK_ROWS baris per kolom,
+// sehingga tidak ada buffer atau mapping di atas 2 GB (> ~89 juta baris);
+// file sumber di-hash per jendela HASH_WINDOW. Hashing yang gagal
+// diperlakukan seperti sidecar tidak ada, bukan sebagai run gagal.
+// ====================================================================
+final class DatasetCache {
+
+    static final String SUFFIX = ".cols";
+
+    private static final int MAGIC = 0x43534443;  // "CSDC"
+    private static final int VERSION = 3;
+    // magic, version, sourceSize, sourceMtime, contentHash, count, payloadHash
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 8 + 4 + 8;
+    private static final int MTIME_OFFSET = 4 + 4 + 8;
+
+    // Baris per potongan kolom (64 MB long); hash payload = gabungan hash per potongan
+    private static final int CHUNK_ROWS = 1 << 23;
+    // Jendela mmap untuk hash file sumber (kelipatan 8, jauh di bawah batas int buffer)
+    private static final long HASH_WINDOW = 1L << 30;
+
+    private static final Map<Path, Entry> MEMORY = new HashMap<>();
+
+    private DatasetCache() {
+    }
+
+    private static final class Entry {
+        final long size;
+        final long mtime;
+        final DatasetLoader.Columns columns;
+
+        Entry(long size, long mtime, DatasetLoader.Columns columns) {
+            this.size = size;
+            this.mtime = mtime;
+            this.columns = columns;
+        }
+    }
+
+    // Kolom yang dikembalikan dipakai bersama antar run; jangan diubah
+    static synchronized DatasetLoader.Columns load(Path dataset) throws IOException {
+        Path key = dataset.toAbsolutePath().normalize();
+        long size = Files.size(key);
+        long mtime = Files.getLastModifiedTime(key).toMillis();
+
+        Entry cached = MEMORY.get(key);
+        if (cached != null && cached.size == size && cached.mtime == mtime) {
+            return cached.columns;
+        }
+
+        Path sidecar = key.resolveSibling(key.getFileName() + SUFFIX);
+        DatasetLoader.Columns cols = null;
+        if (Files.exists(sidecar)) {
+            try {
+                cols = readSidecar(sidecar, key, size, mtime);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("⚠️ Cache dataset rusak, dibangun ulang: " + e.getMessage());
+            }
+        }
+
+        if (cols == null) {
+            cols = DatasetLoader.load(key);
+            try {
+                writeSidecar(sidecar, cols, size, mtime, hashFile(key));
+            } catch (IOException | RuntimeException e) {
+                // Direktori read-only, hashing gagal, dsb.: tetap jalan dengan cache memori saja
+                System.err.println("⚠️ Gagal menulis cache dataset " + sidecar + ": " + e.getMessage());
+            }
+        }
+
+        MEMORY.put(key, new Entry(size, mtime, cols));
+        return cols;
+    }
+
+    // Mengembalikan null jika sidecar basi; melempar exception jika rusak
+    private static DatasetLoader.Columns readSidecar(Path sidecar, Path source, long size, long mtime)
+            throws IOException {
+        DatasetLoader.Columns cols;
+        boolean refreshMtime;
+        try (FileChannel ch = FileChannel.open(sidecar, StandardOpenOption.READ)) {
+            long fileBytes = ch.size();
+            if (fileBytes < HEADER_BYTES) throw new IOException("header terpotong");
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+
+            if (buf.getInt() != MAGIC) throw new IOException("magic tidak cocok");
+            if (buf.getInt() != VERSION) return null;
+            long cachedSize = buf.getLong();
+            long cachedMtime = buf.getLong();
+            long contentHash = buf.getLong();
+            int count = buf.getInt();
+            long payloadHash = buf.getLong();
+
+            if (cachedSize != size) return null;
+            // mtime berubah (mis. file disalin ulang) -> putuskan berdasarkan isi
+            refreshMtime = cachedMtime != mtime;
+            if (refreshMtime && hashFile(source) != contentHash) return null;
+
+            if (count < 0 || fileBytes != HEADER_BYTES + 24L * count) {
+                throw new IOException("ukuran payload tidak cocok");
+            }
+
+            cols = new DatasetLoader.Columns(0);
+            cols.length = new long[count];
+            cols.fileSize = new long[count];
+            cols.outputSize = new long[count];
+            long h = 0;
+            long pos = HEADER_BYTES;
+            for (long[] column : new long[][]{cols.length, cols.fileSize, cols.outputSize}) {
+                for (int from = 0; from < count; from += CHUNK_ROWS) {
+                    int rows = Math.min(CHUNK_ROWS, count - from);
+                    MappedByteBuffer chunk = ch.map(FileChannel.MapMode.READ_ONLY, pos, 8L * rows);
+                    chunk.asLongBuffer().get(column, from, rows);
+                    h = h * 31 + hash(chunk, 0, 8L * rows);
+                    pos += 8L * rows;
+                }
+            }
+            if (h != payloadHash) throw new IOException("checksum payload tidak cocok");
+            cols.size = count;
+        }
+
+        // Isi sama dengan mtime baru (mis. file disalin ulang): simpan mtime baru di header
+        if (refreshMtime) {
+            try (FileChannel ch = FileChannel.open(sidecar, StandardOpenOption.WRITE)) {
+                ByteBuffer b = ByteBuffer.allocate(8).putLong(mtime);
+                b.flip();
+                while (b.hasRemaining()) ch.write(b, MTIME_OFFSET + b.position());
+            } catch (IOException e) {
+                // Read-only: tetap valid, hanya hashing ulang di invocation berikutnya
+            }
+        }
+        return cols;
+    }
+
+    // Ditulis ke file sementara lalu di-rename, aman walau beberapa worker menulis bersamaan
+    private static void writeSidecar(Path sidecar, DatasetLoader.Columns cols, long size, long mtime,
+                                     long contentHash) throws IOException {
+        int n = cols.size;
+        Path tmp = Files.createTempFile(sidecar.getParent(), sidecar.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                // Payload per potongan setelah header; header ditulis terakhir karena memuat hash payload
+                ByteBuffer chunk = ByteBuffer.allocate(8 * Math.min(n, CHUNK_ROWS));
+                long h = 0;
+                ch.position(HEADER_BYTES);
+                for (long[] column : new long[][]{cols.length, cols.fileSize, cols.outputSize}) {
+                    for (int from = 0; from < n; from += CHUNK_ROWS) {
+                        int rows = Math.min(CHUNK_ROWS, n - from);
+                        chunk.clear();
+                        chunk.asLongBuffer().put(column, from, rows);
+                        chunk.limit(8 * rows);
+                        h = h * 31 + hash(chunk, 0, 8L * rows);
+                        while (chunk.hasRemaining()) ch.write(chunk);
+                    }
+                }
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                header.putInt(MAGIC).putInt(VERSION).putLong(size).putLong(mtime).putLong(contentHash)
+                      .putInt(n).putLong(h);
+                header.flip();
+                while (header.hasRemaining()) ch.write(header, header.position());
+            }
+            try {
+                Files.move(tmp, sidecar, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, sidecar, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static long hashFile(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long total = ch.size();
+            long h = 0;
+            for (long pos = 0; pos < total; pos += HASH_WINDOW) {
+                long len = Math.min(HASH_WINDOW, total - pos);
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, pos, len);
+                h = h * 31 + hash(buf, 0, len);
+            }
+            return h;
+        }
+    }
+
+    // Hash 64-bit sederhana per 8 byte (multiply-rotate), cukup untuk mendeteksi perubahan/kerusakan
+    private static long hash(ByteBuffer buf, long from, long to) {
+        int start = (int) from;
+        int end = (int) to;
+        long h = 0x9E3779B97F4A7C15L ^ (end - start);
+        int i = start;
+        for (; i <= end - 8; i += 8) {
+            h = Long.rotateLeft(h ^ (buf.getLong(i) * 0xC2B2AE3D27D4EB4FL), 31) * 0x9E3779B97F4A7C15L;
+        }
+        for (; i < end; i++) {
+            h = (h ^ (buf.get(i) & 0xFF)) * 0x100000001B3L;
+        }
+        return h ^ (h >>> 29);
+    }
+}
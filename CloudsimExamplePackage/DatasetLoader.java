@@ -0,0 +1,298 @@
+package CloudsimExamplePackage;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// ====================================================================
+// Loader dataset cloudlet tanpa regex dan tanpa String per baris.
+// File di-memory-map lalu dipindai byte per byte; angka diparse
+// langsung ke kolom long[] sebelum ada objek Cloudlet yang dibuat.
+//
+// Format yang diterima sama dengan loader lama:
+//   - satu cloudlet per baris: length [fileSize [outputSize [arrival]]]
+//     (arrival dalam detik hanya dipakai mode streaming; load() mengabaikannya)
+//   - pemisah ',', ';' atau whitespace (boleh berulang)
+//   - baris kosong dan baris berawalan '#' dilewati
+//   - nilai desimal dibulatkan (Math.round), nilai tidak valid -> 1000
+// ====================================================================
+final class DatasetLoader {
+
+    static final long DEFAULT_SIZE = 300;      // fileSize/outputSize jika kolom tidak ada
+    static final long INVALID_VALUE = 1000;    // sama dengan fallback parseToLong lama
+
+    // Ukuran jendela mmap; file lebih besar dipetakan bertahap per jendela
+    private static final long WINDOW = 1L << 30;
+
+    // Angka dengan digit sebanyak ini masih bisa dibulatkan tepat tanpa Double.parseDouble
+    private static final int FAST_PATH_DIGITS = 15;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private DatasetLoader() {
+    }
+
+    // Kolom hasil parsing dataset (struct-of-arrays)
+    static final class Columns {
+        int size;
+        long[] length;
+        long[] fileSize;
+        long[] outputSize;
+
+        Columns(int capacity) {
+            capacity = Math.max(16, capacity);
+            length = new long[capacity];
+            fileSize = new long[capacity];
+            outputSize = new long[capacity];
+        }
+
+        void add(long len, long file, long output) {
+            if (size == length.length) {
+                int grown = length.length * 2;
+                length = Arrays.copyOf(length, grown);
+                fileSize = Arrays.copyOf(fileSize, grown);
+                outputSize = Arrays.copyOf(outputSize, grown);
+            }
+            length[size] = len;
+            fileSize[size] = file;
+            outputSize[size] = output;
+            size++;
+        }
+    }
+
+    static Columns load(Path path) throws IOException {
+        try (Reader reader = new Reader(path, false)) {
+            // Perkiraan awal ~8 byte per baris, dibatasi agar file besar tidak langsung alokasi berlebih
+            Columns cols = new Columns((int) Math.min(reader.total / 8, 1 << 20));
+            while (reader.next()) cols.add(reader.length, reader.fileSize, reader.outputSize);
+            return cols;
+        }
+    }
+
+    // ====================================================================
+    // Pembaca baris demi baris di atas jendela mmap. Dipakai load() untuk
+    // mengisi Columns, dan langsung oleh mode streaming sehingga trace
+    // tidak pernah disimpan utuh di heap.
+    // ====================================================================
+    static final class Reader implements StreamingBroker.CloudletSource {
+        private final FileChannel ch;
+        private final long total;
+        private final int columns;  // 3 untuk load(), 4 jika kolom arrival dibaca
+
+        private MappedByteBuffer buf;
+        private long base;      // offset file dari awal jendela
+        private int limit;      // panjang jendela
+        private boolean last;   // jendela terakhir file
+        private int pos;        // posisi baca berikutnya di dalam jendela
+
+        // Baris terakhir yang dibaca next()
+        long length;
+        long fileSize;
+        long outputSize;
+        double arrival;         // kolom ke-4 opsional (detik); NaN jika tidak ada/tidak valid
+
+        Reader(Path path, boolean arrivals) throws IOException {
+            ch = FileChannel.open(path, StandardOpenOption.READ);
+            total = ch.size();
+            columns = arrivals ? 4 : 3;
+        }
+
+        @Override
+        public boolean next() throws IOException {
+            while (true) {
+                if (pos >= limit) {
+                    if (base + limit >= total) return false;
+                    map(base + limit);
+                }
+                int i = pos;
+                while (i < limit) {
+                    byte b = buf.get(i);
+                    if (b == '\n' || b == '\r') break;
+                    i++;
+                }
+                if (i == limit && !last) {
+                    // Baris terpotong di akhir jendela: petakan ulang mulai dari awal baris
+                    if (pos == 0) throw new IOException("Line longer than " + WINDOW + " bytes at offset " + base);
+                    map(base + pos);
+                    continue;
+                }
+                int start = pos;
+                pos = i + 1;
+                if (parseLine(start, i)) return true;
+            }
+        }
+
+        private void map(long offset) throws IOException {
+            long len = Math.min(WINDOW, total - offset);
+            buf = ch.map(FileChannel.MapMode.READ_ONLY, offset, len);
+            base = offset;
+            limit = (int) len;
+            last = offset + len == total;
+            pos = 0;
+        }
+
+        // false jika baris dilewati (kosong, komentar, atau hanya pemisah)
+        private boolean parseLine(int start, int end) {
+            // Setara String.trim(): buang byte <= ' ' di kedua ujung
+            while (start < end && (buf.get(start) & 0xFF) <= ' ') start++;
+            while (end > start && (buf.get(end - 1) & 0xFF) <= ' ') end--;
+            if (start == end || buf.get(start) == '#') return false;  // Skip empty and comment lines
+
+            // Baris yang hanya berisi pemisah tidak punya kolom sama sekali -> dilewati
+            int first = start;
+            while (first < end && isSeparator(buf.get(first))) first++;
+            if (first == end) return false;
+
+            fileSize = DEFAULT_SIZE;
+            outputSize = DEFAULT_SIZE;
+            arrival = Double.NaN;
+            int column = 0;
+            int i = start;
+            while (column < columns) {
+                int tokenStart = i;
+                while (i < end && !isSeparator(buf.get(i))) i++;
+                switch (column++) {
+                    case 0: length = parseToLong(buf, tokenStart, i); break;
+                    case 1: fileSize = parseToLong(buf, tokenStart, i); break;
+                    case 2: outputSize = parseToLong(buf, tokenStart, i); break;
+                    default: arrival = parseToDouble(buf, tokenStart, i); break;
+                }
+                while (i < end && isSeparator(buf.get(i))) i++;
+                if (i == end) break;
+            }
+            return true;
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public long fileSize() {
+            return fileSize;
+        }
+
+        @Override
+        public long outputSize() {
+            return outputSize;
+        }
+
+        @Override
+        public double arrival() {
+            return arrival;
+        }
+
+        @Override
+        public void close() throws IOException {
+            ch.close();
+        }
+    }
+
+    // Kelas karakter [,;\s] dari regex lama
+    private static boolean isSeparator(byte b) {
+        return b == ',' || b == ';' || b == ' ' || b == '\t' || b == '\n'
+                || b == 0x0B || b == '\f' || b == '\r';
+    }
+
+    // Setara Math.round(Double.parseDouble(token)) untuk [+-]digits[.digits];
+    // bentuk lain (eksponen, digit sangat panjang, dll.) memakai Double.parseDouble
+    private static long parseToLong(MappedByteBuffer buf, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buf.get(i) == '+' || buf.get(i) == '-')) {
+            negative = buf.get(i) == '-';
+            i++;
+        }
+
+        long intPart = 0;
+        int digits = 0;
+        while (i < end && isDigit(buf.get(i))) {
+            intPart = intPart * 10 + (buf.get(i) - '0');
+            digits++;
+            i++;
+        }
+
+        int fracDigits = 0;
+        int firstFrac = 0;
+        boolean fracTail = false;  // ada digit bukan nol setelah digit pecahan pertama
+        if (i < end && buf.get(i) == '.') {
+            i++;
+            while (i < end && isDigit(buf.get(i))) {
+                int d = buf.get(i) - '0';
+                if (fracDigits == 0) firstFrac = d;
+                else if (d != 0) fracTail = true;
+                fracDigits++;
+                i++;
+            }
+        }
+
+        if (i != end || digits + fracDigits == 0 || digits + fracDigits > FAST_PATH_DIGITS) {
+            return parseSlow(buf, start, end);
+        }
+
+        // Math.round = floor(x + 0.5): positif naik jika pecahan >= .5, negatif turun jika > .5
+        if (negative) {
+            boolean down = firstFrac > 5 || (firstFrac == 5 && fracTail);
+            return -(intPart + (down ? 1 : 0));
+        }
+        return intPart + (firstFrac >= 5 ? 1 : 0);
+    }
+
+    private static long parseSlow(MappedByteBuffer buf, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = buf.get(start + i);
+        try {
+            return Math.round(Double.parseDouble(new String(bytes, StandardCharsets.ISO_8859_1)));
+        } catch (NumberFormatException e) {
+            return INVALID_VALUE;
+        }
+    }
+
+    // Arrival time: [+-]digits[.digits] dengan <= 15 digit dibagi pangkat 10 secara eksak
+    // (sama dengan Double.parseDouble); bentuk lain lewat Double.parseDouble, tidak valid -> NaN
+    private static double parseToDouble(MappedByteBuffer buf, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buf.get(i) == '+' || buf.get(i) == '-')) {
+            negative = buf.get(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fracDigits = 0;
+        while (i < end && isDigit(buf.get(i))) {
+            mantissa = mantissa * 10 + (buf.get(i++) - '0');
+            digits++;
+        }
+        if (i < end && buf.get(i) == '.') {
+            i++;
+            while (i < end && isDigit(buf.get(i))) {
+                mantissa = mantissa * 10 + (buf.get(i++) - '0');
+                fracDigits++;
+            }
+        }
+        if (i == end && digits + fracDigits > 0 && digits + fracDigits <= FAST_PATH_DIGITS) {
+            double v = mantissa / POWERS_OF_TEN[fracDigits];
+            return negative ? -v : v;
+        }
+
+        byte[] bytes = new byte[end - start];
+        for (int k = 0; k < bytes.length; k++) bytes[k] = buf.get(start + k);
+        try {
+            return Double.parseDouble(new String(bytes, StandardCharsets.ISO_8859_1));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
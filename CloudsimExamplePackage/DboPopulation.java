@@ -0,0 +1,129 @@
+package CloudsimExamplePackage;
+
+import java.util.random.RandomGenerator;
+
+// ====================================================================
+// Satu populasi DBO (Algorithm 1 dari paper). Dipakai langsung oleh
+// DBOAlgorithm sekuensial, dan sebagai satu pulau oleh IslandDBO.
+// Setiap individu menyimpan fitness-nya sendiri, sehingga hanya
+// kandidat baru yang perlu dievaluasi. Load per VM hanya dibutuhkan
+// selama satu evaluasi, jadi semua evaluasi memakai satu buffer.
+// ====================================================================
+final class DboPopulation {
+
+    private final SchedulingModel model;
+    private final RandomGenerator rng;
+    private final double probLocal;
+
+    final int[][] individuals;
+    final double[] fit;
+
+    int[] best;
+    double bestFitness = Double.MAX_VALUE;
+    long evaluations;  // jumlah evaluasi fitness sejak populasi dibuat
+
+    // Buffer kandidat dipakai ulang; ditukar dengan individu jika lebih baik
+    private int[] newInd;
+    // Load per VM untuk model.makespan (scratch, tidak disimpan per individu)
+    private final double[] load;
+
+    DboPopulation(SchedulingModel model, int size, double probLocal, RandomGenerator rng) {
+        this.model = model;
+        this.rng = rng;
+        this.probLocal = probLocal;
+
+        int nCloud = model.cloudletCount;
+        int nVm = model.vmCount;
+
+        // Initialize population
+        individuals = new int[size][];
+        fit = new double[size];
+        load = new double[nVm];
+        for (int i = 0; i < size; i++) {
+            int[] assign = new int[nCloud];
+            for (int j = 0; j < nCloud; j++) assign[j] = rng.nextInt(nVm);
+            individuals[i] = assign;
+            fit[i] = model.makespan(assign, load);
+        }
+        evaluations += size;
+
+        // Find initial best solution
+        updateBest();
+
+        newInd = new int[nCloud];
+    }
+
+    // Satu iterasi DBO: ball-rolling/breeding untuk setiap individu, lalu update best
+    void iterate() {
+        int nCloud = model.cloudletCount;
+        int nVm = model.vmCount;
+        for (int p = 0; p < individuals.length; p++) {
+            int[] ind = individuals[p];
+            System.arraycopy(ind, 0, newInd, 0, nCloud);
+            for (int k = 0; k < nCloud; k++) {
+                // Ball-rolling and breeding behavior
+                if (rng.nextDouble() < 0.2) {
+                    newInd[k] = best[k];  // Follow best solution
+                } else if (rng.nextDouble() < probLocal) {
+                    newInd[k] = rng.nextInt(nVm);  // Local search
+                }
+            }
+            double newFit = model.makespan(newInd, load);
+            evaluations++;
+            if (newFit < fit[p]) {
+                individuals[p] = newInd;
+                newInd = ind;
+                fit[p] = newFit;
+            }
+        }
+
+        // Update best solution
+        updateBest();
+    }
+
+    void iterate(int iterations) {
+        for (int i = 0; i < iterations; i++) iterate();
+    }
+
+    private void updateBest() {
+        for (int p = 0; p < individuals.length; p++) {
+            if (fit[p] < bestFitness) {
+                bestFitness = fit[p];
+                best = individuals[p].clone();
+            }
+        }
+    }
+
+    // Greedy seed: individu pertama diganti dengan solusi heuristik (mis. MCT).
+    // Dipanggil setelah inisialisasi sehingga konsumsi rng tidak berubah
+    void seed(int[] assignment) {
+        seed(0, assignment);
+    }
+
+    // Seed di slot tertentu, mis. greedy di slot 0 dan warm start dari ScheduleCache di slot 1
+    void seed(int index, int[] assignment) {
+        System.arraycopy(assignment, 0, individuals[index], 0, assignment.length);
+        fit[index] = model.makespan(individuals[index], load);
+        evaluations++;
+        updateBest();
+    }
+
+    int worstIndex() {
+        int worst = 0;
+        for (int p = 1; p < fit.length; p++) {
+            if (fit[p] > fit[worst]) worst = p;
+        }
+        return worst;
+    }
+
+    // Migran menggantikan individu terburuk jika lebih baik darinya
+    void accept(int[] migrant, double migrantFitness) {
+        int worst = worstIndex();
+        if (migrantFitness < fit[worst]) {
+            System.arraycopy(migrant, 0, individuals[worst], 0, migrant.length);
+            fit[worst] = model.makespan(individuals[worst], load);
+            evaluations++;
+            updateBest();
+        }
+    }
+}
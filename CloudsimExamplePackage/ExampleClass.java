@@ -6,6 +6,8 @@ import org.cloudbus.cloudsim.provisioners.*;
 
 import java.io.*;
 import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 
 public class ExampleClass {
@@ -17,131 +19,391 @@ public class ExampleClass {
     static final int VM_PER_HOST = 3;  // m VMs per host
     static final int PES_PER_VM = 1;  // Number of cores per VM
 
+    // Spesifikasi host dan VM (Section 3.1); dipakai juga oleh ContentionModel untuk replay penempatan VM
+    static final int HOST_PES = 4;               // Multiple cores per host
+    static final int HOST_PE_MIPS = 5000;        // Million Instructions Per Second
+    static final int HOST_RAM = 8192;            // 8GB RAM (vm_mem in paper)
+    static final long HOST_BW = 10000;           // 10 Gbps bandwidth
+    static final long HOST_STORAGE = 1000000;    // 1TB storage (vm_st in paper)
+    static final int VM_RAM = 512;               // vm_mem (512 MB - 2GB range)
+    static final long VM_BW = 1000;              // Bandwidth
+    static final long VM_SIZE = 10000;           // vm_st (storage)
+
+    // Tarif datacenter (DatacenterCharacteristics); dipakai juga sebagai objektif biaya MultiObjectiveDbo
+    static final double COST_PER_SEC = 3.0;      // Cost per second (varying electricity price in paper)
+    static final double COST_PER_MEM = 0.05;     // Cost per memory
+    static final double COST_PER_STORAGE = 0.1;  // Cost per storage
+    static final double COST_PER_BW = 0.1;       // Cost per bandwidth
+
     // DBO Algorithm Parameters
     static final int POPULATION = 30;
     static final int MAX_ITER = 200;
     static final double PROB_LOCAL = 0.7;
 
-    static Random rng = new Random(42);
+    // Run ke-r memakai seed SEED + (r - 1), sehingga setiap run bisa diulang
+    // sendiri dan hasil mode paralel sama dengan mode sekuensial
+    static final long SEED = 42;
+    static final int RUNS = 10;
+
+    static Random rng = new Random(SEED);
+
+    // Mode streaming: cloudlet dilepas sesuai arrival dan ditugaskan online oleh StreamingBroker
+    static final int STREAMING_MODE = 8;
+    static final double STREAM_MEAN_GAP = 0.1;  // jeda arrival rata-rata (detik) untuk trace sintetis
 
     // ====== Path dataset ======(Change This Part as Needed)
     static final String DATASET_PATH = "DatasetCloudProvisioning/datasets/randomSimple/randSimple1000.txt";
     
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--speedup")) {
+            runSpeedupCurve();
+            return;
+        }
+        if (args.length > 0 && args[0].equals(ParallelExperiment.WORKER_FLAG)) {
+            // Mode worker: satu run (config berupa key=value), metrik dikirim ke proses induk lewat stdout
+            SimulationConfig cfg = SimulationConfig.defaults();
+            for (int i = 1; i < args.length; i++) cfg.set(args[i]);
+            RunMetrics metrics = runSimulation(cfg);
+            if (metrics != null) System.out.println(ParallelExperiment.encode(metrics));
+            return;
+        }
+        if (args.length > 0 && args[0].equals(ParallelExperiment.PREDICT_FLAG)) {
+            // Worker screening sweep: estimasi surrogate satu sel, tanpa CloudSim
+            SimulationConfig cfg = SimulationConfig.defaults();
+            for (int i = 1; i < args.length; i++) cfg.set(args[i]);
+            System.out.println(ParallelExperiment.encode(predict(cfg)));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--surrogate-check")) {
+            // Validasi ContentionModel terhadap simulasi penuh untuk semua mode batch
+            SimulationConfig cfg = SimulationConfig.defaults();
+            for (int i = 1; i < args.length; i++) cfg.set(args[i]);
+            validateSurrogate(cfg);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--scale-report")) {
+            // Waktu setup dan memori per host/VM untuk topologi yang dikalikan scales (default 1,10,100,1000)
+            SimulationConfig cfg = SimulationConfig.defaults();
+            cfg.choice = 2;
+            int[] scales = {1, 10, 100, 1000};
+            for (int i = 1; i < args.length; i++) {
+                if (args[i].startsWith("scales=")) {
+                    String[] parts = args[i].substring("scales=".length()).split(",");
+                    scales = new int[parts.length];
+                    for (int k = 0; k < parts.length; k++) scales[k] = Integer.parseInt(parts[k].trim());
+                } else {
+                    cfg.set(args[i]);
+                }
+            }
+            try {
+                ScaleReport.run(cfg, scales);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--sweep")) {
+            // Mode headless: grid eksperimen dari file konfigurasi, tanpa input Scanner
+            try {
+                SweepRunner.run(Paths.get(args[1]));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            return;
+        }
+
+        // --parallel [N]: jalankan repetisi di N JVM worker sekaligus
+        int workers = 0;
+        if (args.length > 0 && args[0].equals("--parallel")) {
+            workers = (args.length > 1) ? Integer.parseInt(args[1])
+                                        : Runtime.getRuntime().availableProcessors();
+        }
+
         System.out.println("=== CloudSim Simulation with Round Robin Scheduling ===");
         System.out.println("=== Configuration based on EASA-MORU Paper ===\n");
 
         Scanner sc = new Scanner(System.in);
         System.out.println("Pilih mode simulasi:");
         System.out.println("1. No Scheduling (Default Broker)");
-        System.out.println("2. Round Robin Scheduling");
-        System.out.println("3. DBO Scheduling (EASA-MORU)");
-        System.out.print("Masukkan pilihan (1/2/3): ");
-        int choice = sc.nextInt();
-
-        String schedulingMode = "No Scheduling";
-        if (choice == 2) {
-            schedulingMode = "Round Robin";
-        } else if (choice == 3) {
-            schedulingMode = "DBO (EASA-MORU)";
+        // Mode terdaftar dan mode streaming, urut nomor mode
+        TreeMap<Integer, String> menu = new TreeMap<>();
+        for (Map.Entry<Integer, Scheduler> e : SchedulerRegistry.all().entrySet()) {
+            menu.put(e.getKey(), e.getValue().name());
         }
+        menu.put(STREAMING_MODE, schedulingModeName(STREAMING_MODE));
+        for (Map.Entry<Integer, String> e : menu.entrySet()) {
+            System.out.println(e.getKey() + ". " + e.getValue());
+        }
+        int lastMode = Math.max(1, menu.lastKey());
+        System.out.print("Masukkan pilihan (1-" + lastMode + "): ");
+        int choice = sc.nextInt();
 
-        List<double[]> results = new ArrayList<>();
-
-        for (int run = 1; run <= 10; run++) {
-            System.out.printf("%n========== SIMULATION RUN %d (%s) ==========%n", run, schedulingMode);
-            double[] metrics = runSimulation(choice);
-            results.add(metrics);
+        String schedulingMode = schedulingModeName(choice);
+        SimulationConfig base = SimulationConfig.defaults();
+        base.choice = choice;
+
+        List<RunMetrics> results = new ArrayList<>();
+
+        if (workers > 0) {
+            System.out.printf("Menjalankan %d run di %d JVM worker paralel...%n", RUNS, workers);
+            results = ParallelExperiment.run(base, RUNS, workers, schedulingMode);
+        } else {
+            for (int run = 1; run <= RUNS; run++) {
+                System.out.printf("%n========== SIMULATION RUN %d (%s) ==========%n", run, schedulingMode);
+                SimulationConfig cfg = base.copy();
+                cfg.seed = base.seed + run - 1;
+                RunMetrics metrics = runSimulation(cfg);
+                if (metrics != null) results.add(metrics);
+            }
         }
 
         printSummary(results, schedulingMode);
     }
 
+    static String schedulingModeName(int choice) {
+        if (choice == STREAMING_MODE) return "Streaming (Online Least-Load)";
+        return SchedulerRegistry.name(choice);
+    }
+
     // ====================================================================
     // ================== SIMULATION RUN ==================================
     // ====================================================================
 
-    private static double[] runSimulation(int schedulingChoice) {
+    static RunMetrics runSimulation(SimulationConfig cfg) {
+        int schedulingChoice = cfg.choice;
+        RunInstrumentation inst = new RunInstrumentation();
         try {
+            inst.begin("infrastructure");
+            rng = new Random(cfg.seed);
             CloudSim.init(1, Calendar.getInstance(), false);
 
             // ==== Buat Datacenter ====
-            List<Datacenter> datacenters = new ArrayList<>();
-            for (int i = 0; i < DATACENTER_COUNT; i++) {
-                datacenters.add(createDatacenter("Datacenter_" + i, HOST_PER_DATACENTER));
+            Topology topology = Topology.of(cfg);
+            if (!cfg.topology.isEmpty()) System.out.println(topology.describe());
+            List<Datacenter> datacenters = createDatacenters(topology);
+
+            if (schedulingChoice == STREAMING_MODE) {
+                return runStreaming(cfg, topology, datacenters, inst);
             }
 
-            DatacenterBroker broker = createBroker();
+            MeteredBroker broker = new MeteredBroker("Broker", datacenterIds(datacenters));
             int brokerId = broker.getId();
 
             // ==== Buat VM ====
-            int totalVMs = DATACENTER_COUNT * HOST_PER_DATACENTER * VM_PER_HOST;
-            List<Vm> vmList = createVMList(brokerId, totalVMs);
+            int totalVMs = topology.vmCount;
+            List<Vm> vmList = createVMList(brokerId, topology, cfg.pesPerVm);
             broker.submitVmList(vmList);
 
             // ==== Load Cloudlets dari dataset ====
-            List<Cloudlet> cloudletList = loadCloudletsFromDataset(brokerId, PES_PER_VM, DATASET_PATH);
+            inst.begin("datasetLoad");
+            List<Cloudlet> cloudletList = loadCloudletsFromDataset(brokerId, cfg.pesPerVm, cfg.datasetPath);
+            inst.end();
 
             System.out.printf("Configuration: %d Datacenters, %d Hosts, %d VMs, %d Cloudlets%n",
-                    DATACENTER_COUNT, DATACENTER_COUNT * HOST_PER_DATACENTER, totalVMs, cloudletList.size());
-
-            // ==== Scheduling berdasarkan pilihan ====
-            if (schedulingChoice == 2) {
-                System.out.println("Menjalankan Round Robin Scheduling...");
-                Map<Integer, Integer> assignment = RoundRobinScheduling(cloudletList, vmList);
-                for (Cloudlet c : cloudletList) {
-                    c.setVmId(assignment.get(c.getCloudletId()));
-                }
-            } else if (schedulingChoice == 3) {
-                System.out.println("Menjalankan DBO Scheduling (EASA-MORU)...");
-                Map<Integer, Integer> assignment = DBOAlgorithm(cloudletList, vmList);
-                for (Cloudlet c : cloudletList) {
-                    c.setVmId(assignment.get(c.getCloudletId()));
-                }
+                    topology.datacenterCount, topology.hostCount(), totalVMs, cloudletList.size());
+
+            // ==== Model primitif bersama untuk semua scheduler ====
+            inst.begin("scheduling");
+            SchedulingModel model = SchedulingModel.of(cloudletList, vmList);
+
+            // ==== Scheduling berdasarkan pilihan (lihat SchedulerRegistry) ====
+            Scheduler scheduler = SchedulerRegistry.get(schedulingChoice);
+            if (scheduler != null) {
+                System.out.println("Menjalankan " + scheduler.name() + " Scheduling...");
+                int[] assignment = scheduler.schedule(model, cfg);
+                Scheduler.apply(model, assignment, cloudletList);
             }
 
+            inst.end();
+            inst.fitnessEvaluations = model.evaluations.sum();
+
+            inst.begin("simulation");
             broker.submitCloudletList(cloudletList);
 
             CloudSim.startSimulation();
-            List<Cloudlet> finished = broker.getCloudletReceivedList();
             CloudSim.stopSimulation();
 
-            return computeMetrics(finished, vmList);
+            // Metrik sudah diagregasi MeteredBroker saat setiap cloudlet kembali
+            inst.begin("metrics");
+            RunMetrics metrics = broker.metrics;
+            metrics.print();
+            inst.end();
+
+            emitInstrumentation(inst, cfg, cloudletList.size(), totalVMs, metrics);
+            return metrics;
 
         } catch (Exception e) {
             e.printStackTrace();
-            return new double[0];
+            return null;
+        }
+    }
+
+    // Mode streaming: trace dibaca bertahap oleh StreamingBroker, tanpa list cloudlet di memori
+    private static RunMetrics runStreaming(SimulationConfig cfg, Topology topology, List<Datacenter> datacenters,
+                                           RunInstrumentation inst) throws Exception {
+        File file = new File(cfg.datasetPath);
+        StreamingBroker.CloudletSource source;
+        if (file.exists()) {
+            source = new DatasetLoader.Reader(file.toPath(), true);
+        } else {
+            System.out.println("⚠️ Dataset tidak ditemukan. Membuat stream cloudlet acak...");
+            source = StreamingBroker.randomSource(100, rng, STREAM_MEAN_GAP);
+        }
+
+        try (StreamingBroker.CloudletSource s = source) {
+            StreamingBroker broker = new StreamingBroker("Broker", datacenterIds(datacenters), s, cfg.pesPerVm,
+                    cfg.streamPolicy);
+
+            // ==== Buat VM ====
+            int totalVMs = topology.vmCount;
+            List<Vm> vmList = createVMList(broker.getId(), topology, cfg.pesPerVm);
+            broker.submitVmList(vmList);
+
+            System.out.printf("Configuration: %d Datacenters, %d Hosts, %d VMs, streaming %s%n",
+                    topology.datacenterCount, topology.hostCount(), totalVMs,
+                    file.exists() ? cfg.datasetPath : "(synthetic)");
+
+            // Dataset load dan scheduling terjadi di dalam simulasi (per arrival)
+            inst.begin("simulation");
+            CloudSim.startSimulation();
+            CloudSim.stopSimulation();
+
+            inst.begin("metrics");
+            RunMetrics metrics = broker.metrics;
+            metrics.print();
+            System.out.printf("Streaming: %d cloudlets | max in-flight %d | out-of-order arrivals %d%n",
+                    broker.released, broker.maxInFlight, broker.outOfOrder);
+            System.out.printf("Streaming: decision latency p50/p99/max = %.0f/%.0f/%.0f ns | "
+                            + "queue delay p50/p99 = %.3f/%.3f s | response p50/p95/p99 = %.2f/%.2f/%.2f s%n",
+                    broker.decisionNanos.percentile(50), broker.decisionNanos.percentile(99),
+                    broker.decisionNanos.max(),
+                    broker.queueDelay.percentile(50), broker.queueDelay.percentile(99),
+                    broker.responseTime.percentile(50), broker.responseTime.percentile(95),
+                    broker.responseTime.percentile(99));
+            inst.end();
+
+            emitInstrumentation(inst, cfg, (int) broker.released, totalVMs, metrics);
+            return metrics;
+        }
+    }
+
+    // ==== Instrumentasi per fase: console (JSON) dan opsional file JSON + Prometheus ====
+    private static void emitInstrumentation(RunInstrumentation inst, SimulationConfig cfg, int cloudlets, int vms,
+                                            RunMetrics metrics) throws IOException {
+        System.out.println(inst.summary());
+        System.out.println("Instrumentation: " + inst.toJson(cfg, cloudlets, vms, metrics));
+        if (!cfg.metricsDir.isEmpty()) {
+            inst.write(Paths.get(cfg.metricsDir), cfg, cloudlets, vms, metrics);
         }
     }
 
     // ====================================================================
-    // ================== INFRASTRUKTUR CLOUDSIM ==========================
+    // ================== SURROGATE (ContentionModel) =====================
     // ====================================================================
 
-    private static Datacenter createDatacenter(String name, int numHosts) {
-        List<Host> hostList = new ArrayList<>();
-        
-        // Berdasarkan paper: Host memiliki MIPS, RAM, Bandwidth, Storage
-        for (int i = 0; i < numHosts; i++) {
-            // Host specifications based on paper Section 3.1
-            // PE (Processing Element) dengan MIPS capability
-            List<Pe> peList = new ArrayList<>();
-            int pesPerHost = 4;  // Multiple cores per host
-            int hostMips = 5000;  // Million Instructions Per Second
-            
-            for (int j = 0; j < pesPerHost; j++) {
-                peList.add(new Pe(j, new PeProvisionerSimple(hostMips)));
+    // Estimasi tanpa CloudSim.startSimulation: VM, cloudlet, dan jadwal sama
+    // dengan runSimulation untuk config yang sama (rng di-reset ke seed run)
+    static RunMetrics predict(SimulationConfig cfg) {
+        if (cfg.choice == STREAMING_MODE) {
+            throw new IllegalArgumentException("Surrogate does not model streaming mode");
+        }
+        rng = new Random(cfg.seed);
+        Topology topology = Topology.of(cfg);
+        List<Vm> vmList = createVMList(0, topology, cfg.pesPerVm);
+        List<Cloudlet> cloudletList = loadCloudletsFromDataset(0, cfg.pesPerVm, cfg.datasetPath);
+        SchedulingModel model = SchedulingModel.of(cloudletList, vmList);
+
+        Scheduler scheduler = SchedulerRegistry.get(cfg.choice);
+        int[] assignment = scheduler == null ? null : scheduler.schedule(model, cfg);
+        return ContentionModel.of(topology, vmList, cfg.pesPerVm).evaluate(model, assignment);
+    }
+
+    // Bandingkan estimasi surrogate dengan simulasi penuh untuk mode 1 dan semua mode terdaftar
+    private static void validateSurrogate(SimulationConfig base) {
+        List<Integer> modes = new ArrayList<>();
+        modes.add(1);
+        modes.addAll(SchedulerRegistry.all().keySet());
+
+        int n = modes.size();
+        double[][] sim = new double[n][];
+        double[][] pred = new double[n][];
+        double[] simMs = new double[n];
+        double[] predMs = new double[n];
+        String[] compared = {"makespan", "avgFinish", "utilization"};
+        for (int k = 0; k < n; k++) {
+            SimulationConfig cfg = base.copy();
+            cfg.choice = modes.get(k);
+            long t0 = System.nanoTime();
+            RunMetrics simulated = runSimulation(cfg);
+            long t1 = System.nanoTime();
+            RunMetrics predicted = predict(cfg);
+            long t2 = System.nanoTime();
+            if (simulated == null) return;
+            sim[k] = new double[compared.length];
+            pred[k] = new double[compared.length];
+            for (int c = 0; c < compared.length; c++) {
+                sim[k][c] = simulated.value(compared[c]);
+                pred[k][c] = predicted.value(compared[c]);
             }
+            simMs[k] = (t1 - t0) / 1e6;
+            predMs[k] = (t2 - t1) / 1e6;
+        }
 
-            Host host = new Host(
-                    i,
-                    new RamProvisionerSimple(8192),      // 8GB RAM (vm_mem in paper)
-                    new BwProvisionerSimple(10000),       // 10 Gbps bandwidth
-                    1000000,                              // 1TB storage (vm_st in paper)
-                    peList,
-                    new VmSchedulerTimeShared(peList)
-            );
-            hostList.add(host);
+        System.out.println("\n========== VALIDASI SURROGATE (ContentionModel vs CloudSim) ==========");
+        System.out.printf("%-26s", "Mode");
+        for (String name : compared) System.out.printf(" %-30s", name + " sim/pred/err%");
+        System.out.printf(" %-10s %-10s%n", "sim ms", "pred ms");
+        for (int k = 0; k < n; k++) {
+            System.out.printf("%-26s", schedulingModeName(modes.get(k)));
+            for (int c = 0; c < compared.length; c++) {
+                double err = (pred[k][c] - sim[k][c]) / sim[k][c] * 100;
+                System.out.printf(" %-30s", String.format("%.2f/%.2f/%+.2f", sim[k][c], pred[k][c], err));
+            }
+            System.out.printf(" %-10.1f %-10.1f%n", simMs[k], predMs[k]);
+        }
+        // Urutan antar mode yang sama berarti surrogate cukup untuk menyaring kandidat
+        for (int c = 0; c < compared.length; c++) {
+            double[] a = new double[n], b = new double[n];
+            for (int k = 0; k < n; k++) {
+                a[k] = sim[k][c];
+                b[k] = pred[k][c];
+            }
+            System.out.printf("Spearman rank correlation %s: %.3f%n", compared[c], ContentionModel.spearman(a, b));
+        }
+    }
+
+    // Kurva speedup Island DBO pada workload dan VM yang sama dengan simulasi
+    private static void runSpeedupCurve() {
+        rng = new Random(SEED);
+        CloudSim.init(1, Calendar.getInstance(), false);
+        DatacenterBroker broker = createBroker();
+        int totalVMs = DATACENTER_COUNT * HOST_PER_DATACENTER * VM_PER_HOST;
+        List<Vm> vmList = createVMList(broker.getId(), totalVMs, PES_PER_VM);
+        List<Cloudlet> cloudletList = loadCloudletsFromDataset(broker.getId(), PES_PER_VM, DATASET_PATH);
+
+        SchedulingModel model = SchedulingModel.of(cloudletList, vmList);
+        IslandDBO.printSpeedupCurve(model, POPULATION, MAX_ITER, PROB_LOCAL, SEED);
+    }
+
+    // ====================================================================
+    // ================== INFRASTRUKTUR CLOUDSIM ==========================
+    // ====================================================================
+
+    // Datacenter_0..P-1 sesuai topologi (lihat Topology)
+    static List<Datacenter> createDatacenters(Topology topology) {
+        List<Datacenter> datacenters = new ArrayList<>(topology.datacenterCount);
+        for (int i = 0; i < topology.datacenterCount; i++) {
+            datacenters.add(createDatacenter("Datacenter_" + i, topology.hosts(i)));
+        }
+        return datacenters;
+    }
+
+    private static Datacenter createDatacenter(String name, Topology.HostClass[] hosts) {
+        List<Host> hostList = new ArrayList<>(hosts.length);
+        
+        // Berdasarkan paper: Host memiliki MIPS, RAM, Bandwidth, Storage (per kelas host)
+        for (int i = 0; i < hosts.length; i++) {
+            hostList.add(createHost(i, hosts[i]));
         }
 
         // Datacenter characteristics (Section 3.1)
@@ -151,15 +413,16 @@ public class ExampleClass {
                 "Xen",              // VMM
                 hostList,           // Host list
                 10.0,               // Time zone
-                3.0,                // Cost per second (varying electricity price in paper)
-                0.05,               // Cost per memory
-                0.1,                // Cost per storage
-                0.1                 // Cost per bandwidth
+                COST_PER_SEC,
+                COST_PER_MEM,
+                COST_PER_STORAGE,
+                COST_PER_BW
         );
 
         try {
+            // Penempatan VM sama dengan VmAllocationPolicySimple, tanpa scan O(host) per VM
             return new Datacenter(name, characteristics,
-                    new VmAllocationPolicySimple(hostList),
+                    new IndexedVmAllocationPolicy(hostList),
                     new LinkedList<>(), 0);
         } catch (Exception e) {
             e.printStackTrace();
@@ -167,6 +430,23 @@ public class ExampleClass {
         }
     }
 
+    static Host createHost(int id, Topology.HostClass spec) {
+        // PE (Processing Element) dengan MIPS capability
+        List<Pe> peList = new ArrayList<>(spec.pes);
+        for (int j = 0; j < spec.pes; j++) {
+            peList.add(new Pe(j, new PeProvisionerSimple(spec.peMips)));
+        }
+
+        return new Host(
+                id,
+                new RamProvisionerSimple(spec.ram),
+                new BwProvisionerSimple(spec.bw),
+                spec.storage,
+                peList,
+                new VmSchedulerTimeShared(peList)
+        );
+    }
+
     private static DatacenterBroker createBroker() {
         try {
             return new DatacenterBroker("Broker");
@@ -176,8 +456,14 @@ public class ExampleClass {
         }
     }
 
-    private static List<Vm> createVMList(int brokerId, int count) {
-        List<Vm> list = new ArrayList<>();
+    // VM homogen spesifikasi paper (MIPS acak 500-2000), mis. untuk kurva speedup dan benchmark
+    static List<Vm> createVMList(int brokerId, int count, int pesPerVm) {
+        return createVMList(brokerId, Topology.uniform(1, 1, count), pesPerVm);
+    }
+
+    static List<Vm> createVMList(int brokerId, Topology topology, int pesPerVm) {
+        int[] classOf = topology.vmClassSequence();
+        List<Vm> list = new ArrayList<>(classOf.length);
         
         // VM specifications based on paper Section 3.1
         // vm_mips: processing power in MIPS
@@ -185,22 +471,22 @@ public class ExampleClass {
         // vm_mem: memory
         // vm_st: storage
         
-        for (int i = 0; i < count; i++) {
-            // Heterogeneous VMs with different MIPS (500-2000 range)
-            int vmMips = 500 + rng.nextInt(1500);  // Random MIPS for heterogeneity
-            int vmCpus = PES_PER_VM;                // vm_cpus from paper
-            int vmRam = 512;                        // vm_mem (512 MB - 2GB range)
-            long vmBw = 1000;                       // Bandwidth
-            long vmSize = 10000;                    // vm_st (storage)
+        for (int i = 0; i < classOf.length; i++) {
+            Topology.VmClass spec = topology.vmClasses.get(classOf[i]);
+            // Heterogeneous VMs: MIPS acak dalam rentang kelas VM (default 500-2000)
+            int vmMips = spec.mipsMax > spec.mipsMin
+                    ? spec.mipsMin + rng.nextInt(spec.mipsMax - spec.mipsMin)
+                    : spec.mipsMin;
+            int vmCpus = pesPerVm;                  // vm_cpus from paper
             
             Vm vm = new Vm(
                     i,                              // VM ID
                     brokerId,                       // Broker ID
                     vmMips,                         // MIPS
                     vmCpus,                         // Number of CPUs
-                    vmRam,                          // RAM
-                    vmBw,                           // Bandwidth
-                    vmSize,                         // Storage
+                    spec.ram,                       // RAM
+                    spec.bw,                        // Bandwidth
+                    spec.size,                      // Storage
                     "Xen",                          // VMM
                     new CloudletSchedulerTimeShared()
             );
@@ -213,19 +499,7 @@ public class ExampleClass {
     // ================== PEMBACAAN DATASET ===============================
     // ====================================================================
 
-    // Helper method to parse decimal or integer values to long
-    private static long parseToLong(String value) {
-        try {
-            // Try parsing as double first, then convert to long
-            double doubleValue = Double.parseDouble(value);
-            return (long) Math.round(doubleValue);
-        } catch (NumberFormatException e) {
-            // If all else fails, return default
-            return 1000;
-        }
-    }
-
-    private static List<Cloudlet> loadCloudletsFromDataset(int brokerId, int pesNumber, String datasetPath) {
+    static List<Cloudlet> loadCloudletsFromDataset(int brokerId, int pesNumber, String datasetPath) {
         File file = new File(datasetPath);
         List<Cloudlet> list = new ArrayList<>();
         UtilizationModel model = new UtilizationModelFull();
@@ -247,30 +521,15 @@ public class ExampleClass {
             return list;
         }
 
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-            String line;
-            int id = 0;
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty() || line.startsWith("#")) continue;  // Skip empty and comment lines
-                
-                try {
-                    String[] parts = line.split("[,;\\s]+");
-                    
-                    // Parse with support for decimal values (convert to long)
-                    long length = parseToLong(parts[0]);           // Cloudlet length (MI)
-                    long fileSize = (parts.length > 1) ? parseToLong(parts[1]) : 300;
-                    long outputSize = (parts.length > 2) ? parseToLong(parts[2]) : 300;
-                    
-                    Cloudlet c = new Cloudlet(id, length, pesNumber, fileSize, outputSize, 
-                                             model, model, model);
-                    c.setUserId(brokerId);
-                    list.add(c);
-                    id++;
-                } catch (NumberFormatException e) {
-                    System.err.println("⚠️ Skipping invalid line: " + line);
-                    continue;
-                }
+        try {
+            // Kolom primitif dari cache (memori / sidecar .cols), atau parse mmap jika belum ada
+            DatasetLoader.Columns cols = DatasetCache.load(file.toPath());
+            list = new ArrayList<>(cols.size);
+            for (int id = 0; id < cols.size; id++) {
+                Cloudlet c = new Cloudlet(id, cols.length[id], pesNumber, cols.fileSize[id], cols.outputSize[id],
+                                         model, model, model);
+                c.setUserId(brokerId);
+                list.add(c);
             }
             System.out.println("✓ Loaded " + list.size() + " cloudlets from dataset");
         } catch (IOException e) {
@@ -283,19 +542,18 @@ public class ExampleClass {
     // ================== ROUND ROBIN SCHEDULING ==========================
     // ====================================================================
 
-    private static Map<Integer, Integer> RoundRobinScheduling(List<Cloudlet> cloudlets, List<Vm> vms) {
-        Map<Integer, Integer> assignment = new HashMap<>();
-        int vmCount = vms.size();
+    static int[] RoundRobinScheduling(SchedulingModel model) {
+        int[] assignment = new int[model.cloudletCount];
+        int vmCount = model.vmCount;
         
         // Distribusi cloudlet secara merata ke VM menggunakan Round Robin
-        for (int i = 0; i < cloudlets.size(); i++) {
-            int vmIndex = i % vmCount;
-            int vmId = vms.get(vmIndex).getId();
-            assignment.put(cloudlets.get(i).getCloudletId(), vmId);
+        for (int i = 0, vmIndex = 0; i < assignment.length; i++) {
+            assignment[i] = vmIndex;
+            if (++vmIndex == vmCount) vmIndex = 0;
         }
         
         System.out.printf("Round Robin: %d cloudlets → %d VMs (cyclic assignment)%n", 
-                         cloudlets.size(), vmCount);
+                         model.cloudletCount, vmCount);
         
         return assignment;
     }
@@ -304,123 +562,169 @@ public class ExampleClass {
     // ================== DBO ALGORITHM (EASA-MORU) =======================
     // ====================================================================
 
-    private static Map<Integer, Integer> DBOAlgorithm(List<Cloudlet> cloudlets, List<Vm> vms) {
-        int nCloud = cloudlets.size();
-        int nVm = vms.size();
-
-        // Initialize population
-        List<int[]> population = new ArrayList<>();
-        for (int i = 0; i < POPULATION; i++) {
-            int[] assign = new int[nCloud];
-            for (int j = 0; j < nCloud; j++) assign[j] = rng.nextInt(nVm);
-            population.add(assign);
-        }
-
-        // Fitness function: minimize makespan (Equation 1 from paper)
-        // ET(Cl_i, vm_j) = Cl_i_total / total_mips(vm_j)
-        java.util.function.Function<int[], Double> fitness = (assign) -> {
-            double[] vmLoad = new double[nVm];
-            for (int i = 0; i < nCloud; i++) {
-                int vmIdx = assign[i];
-                double execTime = (double) cloudlets.get(i).getCloudletLength() / 
-                                 (vms.get(vmIdx).getMips() * vms.get(vmIdx).getNumberOfPes());
-                vmLoad[vmIdx] += execTime;
-            }
-            // Makespan = maximum completion time
-            double max = 0;
-            for (double v : vmLoad) max = Math.max(max, v);
-            return max;
-        };
-
-        // Find initial best solution
-        double bestFitness = Double.MAX_VALUE;
-        int[] best = null;
-        for (int[] ind : population) {
-            double f = fitness.apply(ind);
-            if (f < bestFitness) {
-                bestFitness = f;
-                best = ind.clone();
-            }
+    static int[] DBOAlgorithm(SchedulingModel model, SimulationConfig cfg) {
+        // Jadwal tersimpan untuk workload, VM, parameter, dan seed yang sama (lihat ScheduleCache)
+        ScheduleCache cache = ScheduleCache.open(cfg);
+        ScheduleCache.Key key = cache == null ? null : cache.key("dbo", model, cfg);
+        // Warm start dicari lebih dulu: hasilnya bergantung pada entri lain, jadi tidak lewat kunci
+        int[] warm = (key != null && cfg.scheduleWarmStart) ? cache.warmStart(key, model) : null;
+        boolean cacheable = key != null && ScheduleCache.cacheable(cfg, warm);
+        ScheduleCache.Entry hit = cacheable ? cache.get(key) : null;
+        if (hit != null) {
+            System.out.printf("DBO: Cache hit → makespan = %.2f (optimasi dilewati)%n", hit.fitness);
+            return hit.assignment;
         }
 
         // DBO iterations (Algorithm 1 from paper)
-        for (int iter = 0; iter < MAX_ITER; iter++) {
-            for (int[] ind : population) {
-                int[] newInd = ind.clone();
-                for (int k = 0; k < nCloud; k++) {
-                    // Ball-rolling and breeding behavior
-                    if (rng.nextDouble() < 0.2) {
-                        newInd[k] = best[k];  // Follow best solution
-                    } else if (rng.nextDouble() < PROB_LOCAL) {
-                        newInd[k] = rng.nextInt(nVm);  // Local search
-                    }
-                }
-                double newFit = fitness.apply(newInd);
-                double oldFit = fitness.apply(ind);
-                if (newFit < oldFit) System.arraycopy(newInd, 0, ind, 0, nCloud);
-            }
+        DboPopulation population = new DboPopulation(model, cfg.population, cfg.probLocal, rng);
+        if (cfg.greedySeed) population.seed(HeuristicScheduling.leastCompletionTime(model));
+        if (warm != null) {
+            population.seed(Math.min(cfg.greedySeed ? 1 : 0, population.fit.length - 1), warm);
+            System.out.println("DBO: Warm start dari jadwal cache dengan workload serupa");
+        }
 
-            // Update best solution
-            for (int[] ind : population) {
-                double f = fitness.apply(ind);
-                if (f < bestFitness) {
-                    bestFitness = f;
-                    best = ind.clone();
-                }
+        // Batas waktu/evaluasi dan early stopping (default: tepat maxIter iterasi)
+        AnytimeDbo.ConvergenceTrace trace = cfg.dboTraceDir.isEmpty() ? null : new AnytimeDbo.ConvergenceTrace();
+        AnytimeDbo.Result run = AnytimeDbo.run(population, cfg, trace);
+        int[] best = population.best;
+        double bestFitness = population.bestFitness;
+
+        if (trace != null) {
+            // Satu file per sel konfigurasi (seperti RunInstrumentation), bukan hanya per seed
+            Path file = Paths.get(cfg.dboTraceDir,
+                    "dbo-trace-mode" + cfg.choice + "-seed" + cfg.seed + "-" + cfg.keyHash() + ".csv");
+            try {
+                trace.write(file);
+                System.out.println("DBO: Convergence trace → " + file);
+            } catch (IOException e) {
+                e.printStackTrace();
             }
         }
 
-        Map<Integer, Integer> result = new HashMap<>();
-        for (int i = 0; i < nCloud; i++) {
-            result.put(cloudlets.get(i).getCloudletId(), best[i]);
-        }
-        
         System.out.printf("DBO: Optimized makespan = %.2f%n", bestFitness);
-        return result;
+        System.out.printf("DBO: %d/%d iterasi, %d evaluasi, %.1f ms (stop: %s)%n",
+                run.iterations, cfg.maxIter, population.evaluations, run.elapsedMs, run.reason);
+        if (cacheable) cache.put(key, model, best, bestFitness);
+        return best;
+    }
+
+    static int[] IslandDBOAlgorithm(SchedulingModel model, SimulationConfig cfg) {
+        ScheduleCache cache = ScheduleCache.open(cfg);
+        ScheduleCache.Key key = cache == null ? null : cache.key("island-dbo", model, cfg);
+        int[] warm = (key != null && cfg.scheduleWarmStart) ? cache.warmStart(key, model) : null;
+        boolean cacheable = key != null && ScheduleCache.cacheable(cfg, warm);
+        ScheduleCache.Entry hit = cacheable ? cache.get(key) : null;
+        if (hit != null) {
+            System.out.printf("Island DBO: Cache hit → makespan = %.2f (optimasi dilewati)%n", hit.fitness);
+            return hit.assignment;
+        }
+
+        // Greedy di pulau pertama, warm start di pulau berikutnya
+        List<int[]> seeds = new ArrayList<>();
+        if (cfg.greedySeed) seeds.add(HeuristicScheduling.leastCompletionTime(model));
+        if (warm != null) seeds.add(warm);
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        // Seed pulau diambil dari rng global agar run tetap reproducible
+        IslandDBO.Result r = IslandDBO.run(model, cfg.population, cfg.maxIter, cfg.probLocal,
+                IslandDBO.ISLANDS, rng.nextLong(), threads, seeds);
+
+        System.out.printf("Island DBO (%d islands, %d threads): Optimized makespan = %.2f%s%n",
+                IslandDBO.ISLANDS, threads, r.bestFitness, warm != null ? " (warm start)" : "");
+        if (cacheable) cache.put(key, model, r.best, r.bestFitness);
+        return r.best;
     }
 
     // ====================================================================
-    // ================== METRIK SIMULASI (Paper Section 4) ===============
+    // ================== DBO MULTI-OBJEKTIF (PARETO) =====================
     // ====================================================================
 
-    private static double[] computeMetrics(List<Cloudlet> list, List<Vm> vms) {
-        double totalCpu = 0, totalWait = 0, avgStart = 0, avgExec = 0, avgFinish = 0;
-        double makeSpan = 0;
-        int finished = list.size();
+    static int[] MultiObjectiveDBOAlgorithm(SchedulingModel model, SimulationConfig cfg) {
+        double[] weights = parseWeights(cfg.moWeights);
+        long start = System.nanoTime();
+        MultiObjectiveDbo mo = new MultiObjectiveDbo(model, cfg.population, cfg.probLocal, cfg.moArchive,
+                cfg.pesPerVm, rng);
+        mo.iterate(cfg.maxIter);
+        ParetoArchive archive = mo.archive;
+        System.out.printf("MO-DBO: %d titik non-dominated (arsip maks %d), %d evaluasi, %.1f ms%n",
+                archive.size(), cfg.moArchive, mo.evaluations, (System.nanoTime() - start) / 1e6);
+
+        // Beberapa titik operasi dari arsip yang sama, tanpa optimasi ulang per bobot
+        String[] labels = {"min makespan", "min energi", "min biaya", "seimbang 1:1:1", "moWeights " + cfg.moWeights};
+        double[][] presets = {{1, 0, 0}, {0, 1, 0}, {0, 0, 1}, {1, 1, 1}, weights};
+        System.out.printf("%-22s %-12s %-14s %-12s%n", "Titik operasi", "Makespan", "Energi (kWh)", "Biaya");
+        for (int k = 0; k < presets.length; k++) {
+            double[] o = archive.objectives(archive.pick(presets[k]));
+            System.out.printf("%-22s %-12.2f %-14.6f %-12.2f%n", labels[k], o[0], o[1], o[2]);
+        }
+        return archive.solution(archive.pick(weights)).clone();
+    }
 
-        for (Cloudlet c : list) {
-            totalCpu += c.getActualCPUTime();
-            totalWait += c.getWaitingTime();
-            avgStart += c.getExecStartTime();
-            avgExec += c.getActualCPUTime();
-            avgFinish += c.getFinishTime();
-            makeSpan = Math.max(makeSpan, c.getFinishTime());
+    // Format "makespan:energi:biaya", mis. 1:0.5:0
+    private static double[] parseWeights(String raw) {
+        String[] parts = raw.split(":");
+        if (parts.length != ParetoArchive.OBJECTIVES) {
+            throw new IllegalArgumentException("moWeights expects makespan:energy:cost, got " + raw);
         }
+        double[] weights = new double[parts.length];
+        for (int d = 0; d < parts.length; d++) weights[d] = Double.parseDouble(parts[d].trim());
+        return weights;
+    }
 
-        avgStart /= finished;
-        avgExec /= finished;
-        avgFinish /= finished;
+    // ====================================================================
+    // ================== HEURISTIK (MCT / MIN-MIN / MAX-MIN) =============
+    // ====================================================================
+
+    static int[] HeuristicSchedulingAlgorithm(SchedulingModel model, int choice) {
+        int[] assignment;
+        if (choice == 6) {
+            assignment = HeuristicScheduling.minMin(model);
+        } else if (choice == 7) {
+            assignment = HeuristicScheduling.maxMin(model);
+        } else {
+            assignment = HeuristicScheduling.leastCompletionTime(model);
+        }
 
-        // Metrics from paper
-        double throughput = finished / makeSpan;                    // Tasks per unit time
-        double imbalance = avgFinish - avgExec;                     // Degree of imbalance
-        double utilization = (totalCpu / (vms.size() * makeSpan)) * 100;  // Resource utilization
-        double energy = makeSpan * 0.000277;                        // Energy consumption (kWh)
+        System.out.printf("%s: Estimated makespan = %.2f%n", schedulingModeName(choice),
+                HeuristicScheduling.estimatedMakespan(model, assignment));
+        return assignment;
+    }
 
-        System.out.printf("Metrics: CPU=%.2f | Wait=%.2f | Makespan=%.2f | Throughput=%.4f | Util=%.2f%%\n",
-                totalCpu, totalWait, makeSpan, throughput, utilization);
+    // ====================================================================
+    // ================== METRIK SIMULASI (Paper Section 4) ===============
+    // ====================================================================
 
-        return new double[]{totalCpu, totalWait, avgStart, avgExec, avgFinish, 
-                           throughput, makeSpan, imbalance, utilization, energy};
+    // Metrik dihitung oleh RunMetrics (diisi MeteredBroker); urutan ID = indeks datacenter di metrik
+    static int[] datacenterIds(List<Datacenter> datacenters) {
+        int[] ids = new int[datacenters.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = datacenters.get(i).getId();
+        return ids;
     }
 
     // ====================================================================
     // ================== PRINT SUMMARY ===================================
     // ====================================================================
 
-    private static void printSummary(List<double[]> results, String schedulingMode) {
+    // 10 metrik paper dalam urutan kolom tabel summary
+    private static final String[] PAPER_METRICS = {
+            "totalCpu", "totalWait", "avgStart", "avgExec", "avgFinish",
+            "throughput", "makespan", "imbalance", "utilization", "energyKwh"
+    };
+
+    private static void printSummary(List<RunMetrics> runs, String schedulingMode) {
+        if (runs.isEmpty()) {
+            System.out.println("\nSUMMARY - " + schedulingMode + ": tidak ada run yang berhasil");
+            return;
+        }
+        List<double[]> results = new ArrayList<>();
+        for (RunMetrics m : runs) {
+            double[] r = new double[PAPER_METRICS.length];
+            for (int j = 0; j < r.length; j++) r[j] = m.value(PAPER_METRICS[j]);
+            results.add(r);
+        }
+
         System.out.println("\n" + "=".repeat(150));
-        System.out.println("SUMMARY (10 RUNS) - " + schedulingMode);
+        System.out.println("SUMMARY (" + results.size() + " RUNS) - " + schedulingMode);
         System.out.println("=".repeat(150));
         
         // Human-readable format
@@ -442,6 +746,8 @@ public class ExampleClass {
         System.out.printf("%-5s %-12.2f %-12.2f %-12.2f %-12.2f %-12.2f %-12.4f %-12.2f %-12.2f %-12.2f %-12.6f%n",
                 "MEAN", mean[0], mean[1], mean[2], mean[3], mean[4], mean[5], mean[6], mean[7], mean[8], mean[9]);
         System.out.println("=".repeat(150));
+
+        printDistributions(runs);
         
         // Excel-ready format with TAB delimiter
         System.out.println("\n\n========== EXCEL COPY-PASTE FORMAT (TAB DELIMITED) ==========");
@@ -466,4 +772,60 @@ public class ExampleClass {
         System.out.println("\n=============================================================");
     }
 
+    // Distribusi nilai per run (bukan rata-rata dari rata-rata) dan distribusi cloudlet
+    // gabungan semua run dari histogram yang di-merge
+    private static void printDistributions(List<RunMetrics> runs) {
+        int n = runs.size();
+        System.out.println("\nDISTRIBUSI LINTAS RUN (nilai per run)");
+        System.out.printf("%-14s %-14s %-14s %-14s %-14s %-14s%n", "Metric", "Mean", "Std", "Min", "Median", "Max");
+        System.out.println("-".repeat(90));
+        for (String name : RunMetrics.NAMES) {
+            double[] v = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                v[i] = runs.get(i).value(name);
+                sum += v[i];
+            }
+            double avg = sum / n;
+            double sq = 0;
+            for (double x : v) sq += (x - avg) * (x - avg);
+            double std = n > 1 ? Math.sqrt(sq / (n - 1)) : 0;
+            Arrays.sort(v);
+            double median = n % 2 == 1 ? v[n / 2] : (v[n / 2 - 1] + v[n / 2]) / 2;
+            System.out.printf("%-14s %-14.4f %-14.4f %-14.4f %-14.4f %-14.4f%n", name, avg, std, v[0], median, v[n - 1]);
+        }
+
+        Histogram wait = new Histogram();
+        Histogram finish = new Histogram();
+        for (RunMetrics m : runs) {
+            wait.merge(m.waitHistogram());
+            finish.merge(m.finishHistogram());
+        }
+        System.out.printf("%nDISTRIBUSI CLOUDLET (%d cloudlet dari %d run)%n", wait.count(), n);
+        System.out.printf("%-14s %-12s %-12s %-12s %-12s %-12s%n", "", "Mean", "P50", "P95", "P99", "Max");
+        System.out.printf("%-14s %-12.2f %-12.2f %-12.2f %-12.2f %-12.2f%n", "Wait time",
+                wait.mean(), wait.percentile(50), wait.percentile(95), wait.percentile(99), wait.max());
+        System.out.printf("%-14s %-12.2f %-12.2f %-12.2f %-12.2f %-12.2f%n", "Finish time",
+                finish.mean(), finish.percentile(50), finish.percentile(95), finish.percentile(99), finish.max());
+
+        // Utilisasi per datacenter, rata-rata lintas run (hanya jika topologi sama di semua run)
+        int dcs = runs.get(0).datacenterCount();
+        StringBuilder sb = new StringBuilder("\nUtilisasi per datacenter (mean lintas run):");
+        for (int dc = 0; dc < dcs; dc++) {
+            double sum = 0;
+            int counted = 0;
+            for (RunMetrics m : runs) {
+                if (m.datacenterCount() != dcs) continue;
+                double u = m.datacenterUtilization(dc);
+                if (!Double.isNaN(u)) {
+                    sum += u;
+                    counted++;
+                }
+            }
+            sb.append(" DC").append(dc).append('=')
+              .append(counted == 0 ? "n/a" : String.format("%.1f%%", sum / counted));  // n/a: DC tanpa VM
+        }
+        System.out.println(sb);
+    }
+
 }
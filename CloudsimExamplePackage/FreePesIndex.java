@@ -0,0 +1,65 @@
+package CloudsimExamplePackage;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+// ====================================================================
+// Urutan host yang dicoba VmAllocationPolicySimple: PE bebas terbanyak
+// lebih dulu, indeks host terkecil jika seri, lalu host berikutnya jika
+// host.vmCreate gagal. Simple mencari maksimum dengan scan list Integer
+// untuk setiap percobaan (O(H) per VM, O(H^2) jika banyak host menolak);
+// di sini host dikelompokkan per jumlah PE bebas (TreeMap -> BitSet),
+// sehingga kandidat pertama didapat dalam O(log k + H/64) dengan k
+// jumlah nilai PE bebas yang berbeda (kecil untuk beberapa kelas host).
+//
+// PE bebas boleh negatif, seperti di Simple: VmSchedulerTimeShared
+// menerima VM selama MIPS host cukup, tidak peduli jumlah PE.
+// ====================================================================
+final class FreePesIndex {
+
+    private final int[] freePes;
+    private final TreeMap<Integer, BitSet> buckets = new TreeMap<>();
+
+    FreePesIndex(int[] initialFreePes) {
+        freePes = initialFreePes.clone();
+        for (int h = 0; h < freePes.length; h++) bucket(freePes[h]).set(h);
+    }
+
+    int size() {
+        return freePes.length;
+    }
+
+    int freePes(int host) {
+        return freePes[host];
+    }
+
+    void add(int host, int delta) {
+        if (delta == 0) return;
+        BitSet old = buckets.get(freePes[host]);
+        old.clear(host);
+        if (old.isEmpty()) buckets.remove(freePes[host]);
+        freePes[host] += delta;
+        bucket(freePes[host]).set(host);
+    }
+
+    // Kandidat pertama, atau -1 jika tidak ada host
+    int first() {
+        Map.Entry<Integer, BitSet> top = buckets.lastEntry();
+        return top == null ? -1 : top.getValue().nextSetBit(0);
+    }
+
+    // Kandidat setelah host (yang gagal), atau -1 jika semua host sudah dicoba.
+    // Urutan hanya konsisten selama tidak ada add() di tengah iterasi
+    int next(int host) {
+        int key = freePes[host];
+        int h = buckets.get(key).nextSetBit(host + 1);
+        if (h >= 0) return h;
+        Map.Entry<Integer, BitSet> lower = buckets.lowerEntry(key);
+        return lower == null ? -1 : lower.getValue().nextSetBit(0);
+    }
+
+    private BitSet bucket(int pes) {
+        return buckets.computeIfAbsent(pes, k -> new BitSet(freePes.length));
+    }
+}
@@ -0,0 +1,83 @@
+package CloudsimExamplePackage;
+
+// ====================================================================
+// Scheduler heuristik untuk workload besar: Minimum Completion Time
+// (MCT, urutan dataset), Min-Min (panjang naik) dan Max-Min (panjang
+// turun). Setiap cloudlet diberikan ke VM dengan completion time
+// terkecil: load(vm) + length / capacity(vm).
+//
+// Pilihan VM memakai VmLoadIndex (min-heap per kelas kapasitas). Biaya
+// per cloudlet O(k + log m) dengan k jumlah kelas kapasitas; untuk
+// topologi dengan sedikit tipe VM ini mendekati O(log m), dan paling
+// buruk (semua VM berbeda) sama dengan scan O(m).
+// ====================================================================
+final class HeuristicScheduling {
+
+    private HeuristicScheduling() {
+    }
+
+    // Minimum Completion Time dalam urutan dataset (juga dipakai sebagai greedy seed DBO)
+    static int[] leastCompletionTime(SchedulingModel model) {
+        int[] order = new int[model.cloudletCount];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        return assignInOrder(model, order);
+    }
+
+    // Min-Min: cloudlet terpendek lebih dulu
+    static int[] minMin(SchedulingModel model) {
+        return assignInOrder(model, sortByLength(model.length, false));
+    }
+
+    // Max-Min: cloudlet terpanjang lebih dulu
+    static int[] maxMin(SchedulingModel model) {
+        return assignInOrder(model, sortByLength(model.length, true));
+    }
+
+    static double estimatedMakespan(SchedulingModel model, int[] assignment) {
+        return model.makespan(assignment, new double[model.vmCount]);
+    }
+
+    // ====================================================================
+    // Penugasan berbasis VmLoadIndex (heap per kelas kapasitas)
+    // ====================================================================
+
+    private static int[] assignInOrder(SchedulingModel model, int[] order) {
+        VmLoadIndex index = new VmLoadIndex(model.capacity);
+        int[] assignment = new int[model.cloudletCount];
+
+        for (int i : order) {
+            double len = model.length[i];
+            int vm = index.pick(len);
+            assignment[i] = vm;
+            index.update(vm, index.load(vm) + len / index.capacity(vm));
+        }
+        return assignment;
+    }
+
+    // ====================================================================
+    // Pengurutan indeks cloudlet berdasarkan panjang (merge sort stabil, tanpa boxing)
+    // ====================================================================
+
+    static int[] sortByLength(long[] length, boolean descending) {
+        int n = length.length;
+        int[] idx = new int[n];
+        for (int i = 0; i < n; i++) idx[i] = i;
+        int[] buf = new int[n];
+        for (int width = 1; width < n; width *= 2) {
+            for (int lo = 0; lo < n - width; lo += 2 * width) {
+                int mid = lo + width;
+                int hi = Math.min(lo + 2 * width, n);
+                int i = lo, j = mid, k = lo;
+                while (i < mid && j < hi) {
+                    boolean takeRight = descending ? length[idx[j]] > length[idx[i]]
+                                                   : length[idx[j]] < length[idx[i]];
+                    buf[k++] = takeRight ? idx[j++] : idx[i++];
+                }
+                while (i < mid) buf[k++] = idx[i++];
+                while (j < hi) buf[k++] = idx[j++];
+                System.arraycopy(buf, lo, idx, lo, hi - lo);
+            }
+        }
+        return idx;
+    }
+}
@@ -0,0 +1,127 @@
+package CloudsimExamplePackage;
+
+// ====================================================================
+// Histogram log-linear berukuran tetap (gaya HdrHistogram): setiap
+// pangkat dua dibagi 64 sub-bucket, sehingga galat relatif persentil
+// <= 1/128 (~0.8%) untuk nilai 2^-32 .. 2^64. Memori konstan (~48 KB)
+// berapa pun jumlah sampel, dan dua histogram bisa digabung (merge)
+// tanpa kehilangan presisi, mis. antar run atau dari JVM worker.
+// Nilai <= 2^-32 (termasuk 0 dan negatif) masuk bucket nol.
+// ====================================================================
+final class Histogram {
+
+    private static final int SUB_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MIN_EXP = -32;
+    private static final int MAX_EXP = 63;
+    private static final int BUCKETS = (MAX_EXP - MIN_EXP + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long zeroCount;
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    void record(double value) {
+        if (Double.isNaN(value)) return;
+        count++;
+        sum += value;
+        if (value < min) min = value;
+        if (value > max) max = value;
+
+        int exp = Math.getExponent(value);
+        if (value <= 0 || exp < MIN_EXP) {
+            zeroCount++;
+        } else if (exp > MAX_EXP) {
+            counts[BUCKETS - 1]++;
+        } else {
+            int sub = (int) (Double.doubleToRawLongBits(value) >>> (52 - SUB_BITS)) & (SUB_BUCKETS - 1);
+            counts[(exp - MIN_EXP) * SUB_BUCKETS + sub]++;
+        }
+    }
+
+    void merge(Histogram other) {
+        for (int i = 0; i < BUCKETS; i++) counts[i] += other.counts[i];
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    long count() {
+        return count;
+    }
+
+    double sum() {
+        return sum;
+    }
+
+    double mean() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    double min() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    double max() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    // Persentil p (0..100): titik tengah bucket yang memuat sampel ke-ceil(p% * count),
+    // dibatasi ke [min, max] agar p0/p100 tepat
+    double percentile(double p) {
+        if (count == 0) return Double.NaN;
+        long rank = Math.max(1, (long) Math.ceil(p / 100.0 * count));
+        long seen = zeroCount;
+        if (seen >= rank) return clamp(0);
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                int exp = i / SUB_BUCKETS + MIN_EXP;
+                int sub = i % SUB_BUCKETS;
+                double lower = Math.scalb(1.0 + (double) sub / SUB_BUCKETS, exp);
+                double upper = Math.scalb(1.0 + (double) (sub + 1) / SUB_BUCKETS, exp);
+                return clamp((lower + upper) / 2);
+            }
+        }
+        return max;
+    }
+
+    private double clamp(double v) {
+        return Math.max(min, Math.min(max, v));
+    }
+
+    // ====================================================================
+    // Serialisasi ringkas (hanya bucket tidak kosong) untuk protokol worker
+    // Format: count,sum,min,max,zeroCount[,index:count]...
+    // ====================================================================
+
+    String encode() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(count).append(',').append(sum).append(',').append(min).append(',').append(max)
+          .append(',').append(zeroCount);
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] != 0) sb.append(',').append(i).append(':').append(counts[i]);
+        }
+        return sb.toString();
+    }
+
+    static Histogram decode(String s) {
+        String[] parts = s.split(",");
+        if (parts.length < 5) throw new IllegalArgumentException("Bad histogram: " + s);
+        Histogram h = new Histogram();
+        h.count = Long.parseLong(parts[0]);
+        h.sum = Double.parseDouble(parts[1]);
+        h.min = Double.parseDouble(parts[2]);
+        h.max = Double.parseDouble(parts[3]);
+        h.zeroCount = Long.parseLong(parts[4]);
+        for (int i = 5; i < parts.length; i++) {
+            int colon = parts[i].indexOf(':');
+            h.counts[Integer.parseInt(parts[i].substring(0, colon))] = Long.parseLong(parts[i].substring(colon + 1));
+        }
+        return h;
+    }
+}
@@ -0,0 +1,136 @@
+package CloudsimExamplePackage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// ====================================================================
+// DBO paralel dengan island model. Populasi dibagi menjadi beberapa
+// pulau; setiap pulau punya stream SplittableRandom sendiri dan
+// berjalan di ForkJoinPool. Setiap MIGRATION_INTERVAL iterasi, best
+// setiap pulau dikirim ke pulau berikutnya (topologi ring).
+//
+// Hasil hanya bergantung pada seed dan jumlah pulau, bukan pada jumlah
+// thread: pulau tidak berbagi state selama satu epoch, dan migrasi
+// dilakukan secara sekuensial di antara epoch.
+// ====================================================================
+final class IslandDBO {
+
+    static final int ISLANDS = 6;
+    static final int MIGRATION_INTERVAL = 20;
+
+    private IslandDBO() {
+    }
+
+    static final class Result {
+        final int[] best;
+        final double bestFitness;
+
+        Result(int[] best, double bestFitness) {
+            this.best = best;
+            this.bestFitness = bestFitness;
+        }
+    }
+
+    static Result run(SchedulingModel model, int population, int maxIter, double probLocal,
+                      int islands, long seed, int threads, List<int[]> seeds) {
+        islands = Math.max(1, Math.min(islands, population));
+        SplittableRandom root = new SplittableRandom(seed);
+
+        // Bagi populasi serata mungkin; sisa dibagikan ke pulau pertama
+        DboPopulation[] pops = new DboPopulation[islands];
+        for (int i = 0; i < islands; i++) {
+            int size = population / islands + (i < population % islands ? 1 : 0);
+            pops[i] = new DboPopulation(model, size, probLocal, root.split());
+        }
+        // Seed ke-k (greedy, warm start) masuk ke pulau k % islands
+        for (int k = 0; k < seeds.size(); k++) {
+            DboPopulation pop = pops[k % islands];
+            int slot = k / islands;
+            if (slot < pop.fit.length) pop.seed(slot, seeds.get(k));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, threads));
+        try {
+            for (int done = 0; done < maxIter; ) {
+                int epoch = Math.min(MIGRATION_INTERVAL, maxIter - done);
+                List<ForkJoinTask<?>> tasks = new ArrayList<>(islands);
+                for (DboPopulation pop : pops) {
+                    tasks.add(pool.submit(() -> pop.iterate(epoch)));
+                }
+                for (ForkJoinTask<?> t : tasks) t.join();
+                done += epoch;
+
+                if (done < maxIter) migrate(pops);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        DboPopulation winner = pops[0];
+        for (DboPopulation pop : pops) {
+            if (pop.bestFitness < winner.bestFitness) winner = pop;
+        }
+        return new Result(winner.best.clone(), winner.bestFitness);
+    }
+
+    // Ring migration: best pulau i menggantikan individu terburuk di pulau i+1
+    private static void migrate(DboPopulation[] pops) {
+        int k = pops.length;
+        if (k < 2) return;
+        int[][] migrants = new int[k][];
+        double[] migrantFit = new double[k];
+        for (int i = 0; i < k; i++) {
+            migrants[i] = pops[i].best.clone();
+            migrantFit[i] = pops[i].bestFitness;
+        }
+        for (int i = 0; i < k; i++) {
+            pops[(i + 1) % k].accept(migrants[i], migrantFit[i]);
+        }
+    }
+
+    // ====================================================================
+    // Kurva speedup terhadap jumlah thread (pulau dan seed tetap)
+    // ====================================================================
+
+    static void printSpeedupCurve(SchedulingModel model, int population, int maxIter,
+                                  double probLocal, long seed) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int islands = Math.max(ISLANDS, Math.min(cores, population / 2));
+
+        System.out.printf("Island DBO speedup: %d cloudlets, %d VMs, %d islands, %d cores%n",
+                model.cloudletCount, model.vmCount, islands, cores);
+
+        // Baseline: DBO sekuensial (satu populasi)
+        long t0 = System.nanoTime();
+        DboPopulation seq = new DboPopulation(model, population, probLocal, new SplittableRandom(seed));
+        seq.iterate(maxIter);
+        double seqMs = (System.nanoTime() - t0) / 1e6;
+
+        System.out.println("-".repeat(72));
+        System.out.printf("%-12s %-12s %-12s %-12s %-16s%n",
+                "Threads", "Time(ms)", "Speedup", "Efficiency", "Makespan");
+        System.out.println("-".repeat(72));
+        System.out.printf("%-12s %-12.1f %-12.2f %-12s %-16.2f%n",
+                "sequential", seqMs, 1.0, "-", seq.bestFitness);
+
+        // 1, 2, 4, ... sampai jumlah pulau (paralelisme maksimum yang berguna)
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int t = 1; t < islands; t *= 2) threadCounts.add(t);
+        threadCounts.add(islands);
+
+        double reference = Double.NaN;
+        for (int threads : threadCounts) {
+            long start = System.nanoTime();
+            Result r = run(model, population, maxIter, probLocal, islands, seed, threads, List.of());
+            double ms = (System.nanoTime() - start) / 1e6;
+            if (Double.isNaN(reference)) reference = r.bestFitness;
+            System.out.printf("%-12d %-12.1f %-12.2f %-12.2f %-16.2f%s%n",
+                    threads, ms, seqMs / ms, seqMs / ms / threads, r.bestFitness,
+                    r.bestFitness == reference ? "" : "  (!) tidak deterministik");
+        }
+        System.out.println("-".repeat(72));
+    }
+}
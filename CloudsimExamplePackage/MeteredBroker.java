@@ -0,0 +1,144 @@
+package CloudsimExamplePackage;
+
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.DatacenterBroker;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// ====================================================================
+// DatacenterBroker yang mengisi RunMetrics saat setiap cloudlet kembali,
+// sehingga metrik tidak perlu dihitung ulang dari received list.
+// Penempatan VM -> datacenter diambil dari broker setelah semua VM
+// dibuat (getVmsToDatacentersMap), tepat sebelum cloudlet dikirim.
+//
+// processVmCreate dan submitCloudlets mengikuti DatacenterBroker, tetapi
+// VM dicari lewat map ID alih-alih VmList.getById (scan list, O(m) per
+// ack dan per cloudlet terikat) dan cloudlet terkirim dibuang dari
+// waiting list sekaligus alih-alih List.remove per cloudlet. Dengan
+// ribuan VM dan cloudlet, keduanya kuadratik di broker bawaan.
+// ====================================================================
+class MeteredBroker extends DatacenterBroker {
+
+    private final int[] datacenterIds;  // ID entity datacenter, urutan = indeks datacenter di metrik
+    private Map<Integer, Vm> vmsById;   // dibangun saat ack pertama; list VM tetap setelah submitVmList
+    RunMetrics metrics;
+
+    MeteredBroker(String name, int[] datacenterIds) throws Exception {
+        super(name);
+        this.datacenterIds = datacenterIds;
+    }
+
+    @Override
+    protected void processVmCreate(SimEvent ev) {
+        int[] data = (int[]) ev.getData();
+        int datacenterId = data[0];
+        int vmId = data[1];
+        int result = data[2];
+
+        if (vmsById == null) vmsById = indexById(getVmList());
+        if (result == CloudSimTags.TRUE) {
+            Vm vm = vmsById.get(vmId);
+            getVmsToDatacentersMap().put(vmId, datacenterId);
+            getVmsCreatedList().add(vm);
+            Log.printLine(CloudSim.clock() + ": " + getName() + ": VM #" + vmId
+                    + " has been created in Datacenter #" + datacenterId + ", Host #" + vm.getHost().getId());
+        } else {
+            Log.printLine(CloudSim.clock() + ": " + getName() + ": Creation of VM #" + vmId
+                    + " failed in Datacenter #" + datacenterId);
+        }
+
+        incrementVmsAcks();
+
+        // Semua VM dibuat; atau semua ack diterima dan datacenter berikutnya dicoba
+        if (getVmsCreatedList().size() == getVmList().size() - getVmsDestroyed()) {
+            submitCloudlets();
+        } else if (getVmsRequested() == getVmsAcks()) {
+            for (int nextDatacenterId : getDatacenterIdsList()) {
+                if (!getDatacenterRequestedIdsList().contains(nextDatacenterId)) {
+                    createVmsInDatacenter(nextDatacenterId);
+                    return;
+                }
+            }
+            if (getVmsCreatedList().size() > 0) {
+                submitCloudlets();
+            } else {
+                Log.printLine(CloudSim.clock() + ": " + getName()
+                        + ": none of the required VMs could be created. Aborting");
+                finishExecution();
+            }
+        }
+    }
+
+    @Override
+    protected void submitCloudlets() {
+        startMetrics();
+
+        List<Vm> created = getVmsCreatedList();
+        Map<Integer, Vm> createdById = indexById(created);
+        Map<Integer, Integer> placement = getVmsToDatacentersMap();
+        List<Cloudlet> waiting = getCloudletList();
+        List<Cloudlet> submitted = getCloudletSubmittedList();
+        List<Cloudlet> postponed = new ArrayList<>();
+        int vmIndex = 0;
+        for (Cloudlet cloudlet : waiting) {
+            Vm vm;
+            if (cloudlet.getVmId() == -1) {
+                vm = created.get(vmIndex);  // tanpa binding: round robin atas VM yang dibuat
+            } else {
+                vm = createdById.get(cloudlet.getVmId());
+                if (vm == null) {
+                    Log.printLine(CloudSim.clock() + ": " + getName() + ": Postponing execution of cloudlet "
+                            + cloudlet.getCloudletId() + ": bount VM not available");
+                    postponed.add(cloudlet);
+                    continue;
+                }
+            }
+
+            Log.printLine(CloudSim.clock() + ": " + getName() + ": Sending cloudlet "
+                    + cloudlet.getCloudletId() + " to VM #" + vm.getId());
+            cloudlet.setVmId(vm.getId());
+            sendNow(placement.get(vm.getId()), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
+            cloudletsSubmitted++;
+            vmIndex = (vmIndex + 1) % created.size();
+            submitted.add(cloudlet);
+        }
+        waiting.clear();
+        waiting.addAll(postponed);
+    }
+
+    private static Map<Integer, Vm> indexById(List<? extends Vm> vms) {
+        Map<Integer, Vm> byId = new HashMap<>(vms.size() * 2);
+        for (Vm vm : vms) byId.put(vm.getId(), vm);
+        return byId;
+    }
+
+    protected void startMetrics() {
+        List<Vm> vms = getVmsCreatedList();
+        Map<Integer, Integer> placement = getVmsToDatacentersMap();
+        Map<Integer, Integer> datacenterIndex = new HashMap<>();
+        for (int d = 0; d < datacenterIds.length; d++) datacenterIndex.put(datacenterIds[d], d);
+        int[] vmIds = new int[vms.size()];
+        int[] vmDatacenter = new int[vms.size()];
+        for (int j = 0; j < vmIds.length; j++) {
+            vmIds[j] = vms.get(j).getId();
+            Integer dcId = placement.get(vmIds[j]);
+            Integer d = dcId == null ? null : datacenterIndex.get(dcId);
+            vmDatacenter[j] = d == null ? -1 : d;
+        }
+        metrics = new RunMetrics(vmIds, vmDatacenter, datacenterIds.length);
+    }
+
+    @Override
+    protected void processCloudletReturn(SimEvent ev) {
+        metrics.add((Cloudlet) ev.getData());
+        super.processCloudletReturn(ev);
+    }
+}
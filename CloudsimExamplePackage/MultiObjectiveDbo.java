@@ -0,0 +1,156 @@
+package CloudsimExamplePackage;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// ====================================================================
+// DBO multi-objektif: makespan, energi, dan biaya diminimasi bersamaan,
+// dan hasilnya berupa front Pareto (ParetoArchive), bukan satu solusi.
+// Titik operasi dipilih setelah run dengan bobot (moWeights), tanpa
+// optimasi ulang per pembobotan.
+//
+// Ketiga objektif dihitung dari vektor load per VM yang sama:
+//   makespan = max_j load_j
+//   energi   = (P_IDLE * jumlah VM * makespan + sum_j Pdyn_j * load_j) / 3.6e6  [kWh]
+//              Pdyn_j = pes * P_DYN_REF * (mips_j / 1000)^3 (DVFS: energi per MI
+//              naik kuadratik terhadap MIPS, jadi VM cepat lebih boros)
+//   biaya    = COST_PER_SEC * sum_j load_j
+//              + sum_{VM terpakai} (COST_PER_MEM * VM_RAM + COST_PER_STORAGE * VM_SIZE)
+// Setiap kandidat dievaluasi dari jadwalnya sendiri (load per VM dihitung
+// ulang di buffer scratch, urutan penjumlahan sama dengan DboPopulation),
+// jadi tidak ada sisa pembulatan yang terbawa dari induk ke kandidat.
+// Kandidat menyalin jadwal induk dan menarik bilangan acak per cloudlet,
+// jadi biaya per kandidat O(n + m), sama dengan fitness makespan DBO.
+//
+// Pemimpin (pengganti `best` di DBO) diambil acak dari arsip untuk
+// setiap individu. Kandidat menggantikan induk jika mendominasinya, atau
+// dengan peluang 1/2 jika keduanya saling tidak mendominasi.
+// ====================================================================
+final class MultiObjectiveDbo {
+
+    static final double P_IDLE = 10.0;      // Watt per VM saat idle
+    static final double P_DYN_REF = 30.0;   // Watt dinamis per PE pada 1000 MIPS
+
+    private final SchedulingModel model;
+    private final RandomGenerator rng;
+    private final double probLocal;
+
+    private final double[] dynPower;   // Pdyn_j (Watt)
+    private final double rentPerVm;    // biaya sewa VM yang menerima minimal satu cloudlet
+
+    final int[][] individuals;
+    private final double[][] objectives;
+
+    // Buffer kandidat per individu; ditukar dengan induk jika diterima
+    private final int[][] candInd;
+    private final double[][] candObj;
+
+    // Scratch evaluasi: load dan jumlah cloudlet per VM
+    private final double[] load;
+    private final int[] count;
+
+    final ParetoArchive archive;
+    long evaluations;  // juga ditambahkan ke model.evaluations untuk instrumentasi run
+
+    MultiObjectiveDbo(SchedulingModel model, int size, double probLocal, int archiveSize, int pesPerVm,
+                      RandomGenerator rng) {
+        this.model = model;
+        this.rng = rng;
+        this.probLocal = probLocal;
+        this.archive = new ParetoArchive(archiveSize);
+
+        int nCloud = model.cloudletCount;
+        int nVm = model.vmCount;
+        dynPower = new double[nVm];
+        for (int j = 0; j < nVm; j++) {
+            double mips = model.capacity[j] / pesPerVm;
+            dynPower[j] = pesPerVm * P_DYN_REF * Math.pow(mips / 1000.0, 3);
+        }
+        rentPerVm = ExampleClass.COST_PER_MEM * ExampleClass.VM_RAM
+                + ExampleClass.COST_PER_STORAGE * ExampleClass.VM_SIZE;
+
+        load = new double[nVm];
+        count = new int[nVm];
+
+        // Initialize population
+        individuals = new int[size][];
+        objectives = new double[size][ParetoArchive.OBJECTIVES];
+        for (int p = 0; p < size; p++) {
+            int[] assign = new int[nCloud];
+            for (int i = 0; i < nCloud; i++) assign[i] = rng.nextInt(nVm);
+            individuals[p] = assign;
+            evaluate(assign, objectives[p]);
+        }
+        evaluations += size;
+        model.evaluations.add(size);
+        archive.update(objectives, individuals, size);
+
+        candInd = new int[size][nCloud];
+        candObj = new double[size][ParetoArchive.OBJECTIVES];
+    }
+
+    // Load per VM dari jadwal, lalu ketiga objektif dalam satu pass atas vektor load
+    private void evaluate(int[] assign, double[] out) {
+        Arrays.fill(load, 0);
+        Arrays.fill(count, 0);
+        for (int i = 0; i < assign.length; i++) {
+            int vm = assign[i];
+            load[vm] += model.execTime(i, vm);
+            count[vm]++;
+        }
+
+        double makespan = 0, busy = 0, dynamic = 0;
+        int used = 0;
+        for (int j = 0; j < load.length; j++) {
+            double l = load[j];
+            if (l > makespan) makespan = l;
+            busy += l;
+            dynamic += dynPower[j] * l;
+            if (count[j] > 0) used++;
+        }
+        out[0] = makespan;
+        out[1] = (P_IDLE * load.length * makespan + dynamic) / 3.6e6;
+        out[2] = ExampleClass.COST_PER_SEC * busy + rentPerVm * used;
+    }
+
+    void iterate() {
+        int nCloud = model.cloudletCount;
+        int nVm = model.vmCount;
+        int size = individuals.length;
+        for (int p = 0; p < size; p++) {
+            int[] leader = archive.solution(rng.nextInt(archive.size()));
+            int[] ind = candInd[p];
+            System.arraycopy(individuals[p], 0, ind, 0, nCloud);
+
+            for (int k = 0; k < nCloud; k++) {
+                // Ball-rolling and breeding behavior
+                if (rng.nextDouble() < 0.2) {
+                    ind[k] = leader[k];  // Follow archive leader
+                } else if (rng.nextDouble() < probLocal) {
+                    ind[k] = rng.nextInt(nVm);  // Local search
+                }
+            }
+            evaluate(ind, candObj[p]);
+        }
+        evaluations += size;
+        model.evaluations.add(size);
+
+        archive.update(candObj, candInd, size);
+
+        for (int p = 0; p < size; p++) {
+            boolean accept = ParetoArchive.dominates(candObj[p], objectives[p])
+                    || (!ParetoArchive.dominates(objectives[p], candObj[p]) && rng.nextBoolean());
+            if (!accept) continue;
+            int[] ind = individuals[p];
+            individuals[p] = candInd[p];
+            candInd[p] = ind;
+            double[] obj = objectives[p];
+            objectives[p] = candObj[p];
+            candObj[p] = obj;
+        }
+    }
+
+    void iterate(int iterations) {
+        for (int i = 0; i < iterations; i++) iterate();
+    }
+}
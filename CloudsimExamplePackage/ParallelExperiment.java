@@ -0,0 +1,148 @@
+package CloudsimExamplePackage;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// ====================================================================
+// Menjalankan repetisi simulasi secara paralel. CloudSim.init memakai
+// state static global, jadi setiap repetisi dijalankan di JVM worker
+// tersendiri (ExampleClass --worker key=value ...). Worker menulis
+// state RunMetrics (termasuk histogram) di satu baris berawalan METRICS,
+// yang dibaca kembali di sini lalu digabung ke printSummary seperti run
+// sekuensial. Worker PREDICT_FLAG hanya menjalankan estimasi surrogate
+// (ExampleClass.predict) untuk screening sweep.
+//
+// Proses worker yang masih hidup dicatat agar tidak tertinggal saat
+// induk dihentikan: launchWorker mematikannya di finally (interrupt saat
+// waitFor, exception), pemanggil pool memanggil destroyWorkers() setelah
+// shutdownNow (thread yang sedang blok membaca stdout worker tidak
+// merespons interrupt), dan shutdown hook menangani Ctrl-C.
+// ====================================================================
+final class ParallelExperiment {
+
+    static final String WORKER_FLAG = "--worker";
+    static final String PREDICT_FLAG = "--worker-predict";
+
+    private static final Set<Process> LIVE_WORKERS = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ParallelExperiment::destroyWorkers, "worker-cleanup"));
+    }
+    static final String METRICS_PREFIX = "METRICS\t";
+
+    private ParallelExperiment() {
+    }
+
+    static List<RunMetrics> run(SimulationConfig base, int runs, int parallelism, String schedulingMode) {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        try {
+            List<Future<WorkerResult>> futures = new ArrayList<>();
+            for (int run = 1; run <= runs; run++) {
+                SimulationConfig cfg = base.copy();
+                cfg.seed = base.seed + run - 1;
+                futures.add(pool.submit(() -> launchWorker(cfg)));
+            }
+
+            // Output dan hasil dicetak sesuai urutan run, bukan urutan selesai
+            List<RunMetrics> results = new ArrayList<>();
+            for (int run = 1; run <= runs; run++) {
+                WorkerResult r;
+                try {
+                    r = futures.get(run - 1).get();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    r = new WorkerResult(null, "");
+                }
+                System.out.printf("%n========== SIMULATION RUN %d (%s) ==========%n", run, schedulingMode);
+                System.out.print(r.log);
+                if (r.metrics != null) results.add(r.metrics);
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+            destroyWorkers();
+        }
+    }
+
+    // Matikan semua worker yang masih berjalan; stdout-nya ditutup sehingga pembaca di launchWorker selesai
+    static void destroyWorkers() {
+        for (Process process : LIVE_WORKERS) process.destroyForcibly();
+    }
+
+    static final class WorkerResult {
+        final RunMetrics metrics;  // null jika worker gagal
+        final String log;
+
+        WorkerResult(RunMetrics metrics, String log) {
+            this.metrics = metrics;
+            this.log = log;
+        }
+    }
+
+    static WorkerResult launchWorker(SimulationConfig cfg) throws IOException, InterruptedException {
+        return launchWorker(WORKER_FLAG, cfg);
+    }
+
+    static WorkerResult launchWorker(String flag, SimulationConfig cfg) throws IOException, InterruptedException {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        // Opsi JVM induk (mis. -Xmx) diteruskan ke worker, kecuali debugger
+        for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (!arg.startsWith("-agentlib:jdwp") && !arg.startsWith("-Xrunjdwp")) cmd.add(arg);
+        }
+        cmd.add("-cp");
+        cmd.add(System.getProperty("java.class.path"));
+        cmd.add(ExampleClass.class.getName());
+        cmd.add(flag);
+        cmd.addAll(cfg.toArgs());
+
+        Process process = new ProcessBuilder(cmd)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        LIVE_WORKERS.add(process);
+        try {
+            StringBuilder log = new StringBuilder();
+            RunMetrics metrics = null;
+            try (BufferedReader br = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    if (line.startsWith(METRICS_PREFIX)) {
+                        metrics = decode(line);
+                    } else {
+                        log.append(line).append(System.lineSeparator());
+                    }
+                }
+            }
+
+            int exit = process.waitFor();
+            if (exit != 0) {
+                System.err.println("⚠️ Worker (" + cfg.key() + ") keluar dengan kode " + exit);
+            }
+            return new WorkerResult(metrics, log.toString());
+        } finally {
+            // Normal: proses sudah selesai; interrupt/exception: jangan tinggalkan worker hidup
+            if (process.isAlive()) process.destroyForcibly();
+            LIVE_WORKERS.remove(process);
+        }
+    }
+
+    static String encode(RunMetrics metrics) {
+        return METRICS_PREFIX + metrics.encode();
+    }
+
+    static RunMetrics decode(String line) {
+        return RunMetrics.decode(line.substring(METRICS_PREFIX.length()));
+    }
+}
@@ -0,0 +1,165 @@
+package CloudsimExamplePackage;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+// ====================================================================
+// Arsip non-dominated berukuran tetap untuk 3 objektif (semua minimasi).
+// Setiap update menggabungkan arsip dengan kandidat satu iterasi lalu
+// menyaring front dengan algoritma Kung untuk 3 dimensi, O(k log k):
+// titik diurutkan menurut objektif pertama, lalu di-sweep sambil
+// menjaga "tangga" (staircase) 2D objektif kedua/ketiga di TreeMap.
+// Jika front melebihi kapasitas, titik dengan crowding distance
+// terkecil dibuang (titik ekstrem setiap objektif selalu dipertahankan).
+// ====================================================================
+final class ParetoArchive {
+
+    static final int OBJECTIVES = 3;
+
+    private final int capacity;
+    private double[][] objectives = new double[0][];
+    private int[][] solutions = new int[0][];
+
+    ParetoArchive(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Archive capacity must be >= 1: " + capacity);
+        this.capacity = capacity;
+    }
+
+    int size() {
+        return objectives.length;
+    }
+
+    double[] objectives(int i) {
+        return objectives[i];
+    }
+
+    int[] solution(int i) {
+        return solutions[i];
+    }
+
+    // Kandidat yang lolos disalin, sehingga buffer pemanggil boleh dipakai ulang
+    void update(double[][] candidateObjectives, int[][] candidateSolutions, int count) {
+        int archived = objectives.length;
+        int total = archived + count;
+        double[][] obj = new double[total][];
+        int[][] sol = new int[total][];
+        System.arraycopy(objectives, 0, obj, 0, archived);
+        System.arraycopy(solutions, 0, sol, 0, archived);
+        for (int c = 0; c < count; c++) {
+            obj[archived + c] = candidateObjectives[c];
+            sol[archived + c] = candidateSolutions[c];
+        }
+
+        int[] front = nonDominated(obj);
+        if (front.length > capacity) front = truncate(obj, front, capacity);
+
+        double[][] nextObj = new double[front.length][];
+        int[][] nextSol = new int[front.length][];
+        for (int k = 0; k < front.length; k++) {
+            int i = front[k];
+            boolean fromArchive = i < archived;
+            nextObj[k] = fromArchive ? obj[i] : obj[i].clone();
+            nextSol[k] = fromArchive ? sol[i] : sol[i].clone();
+        }
+        objectives = nextObj;
+        solutions = nextSol;
+    }
+
+    // Kung 3D: urut (f0, f1, f2) naik; titik didominasi jika ada titik sebelumnya
+    // dengan f1 <= f1 dan f2 <= f2. Duplikat persis hanya disimpan sekali.
+    static int[] nonDominated(double[][] obj) {
+        Integer[] order = new Integer[obj.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> {
+            for (int d = 0; d < OBJECTIVES; d++) {
+                int c = Double.compare(obj[a][d], obj[b][d]);
+                if (c != 0) return c;
+            }
+            return 0;
+        });
+
+        // Staircase: f1 naik -> f2 turun tegas; floorEntry(f1) = f2 minimum di antara f1' <= f1
+        TreeMap<Double, Double> stairs = new TreeMap<>();
+        int[] front = new int[obj.length];
+        int size = 0;
+        for (int i : order) {
+            double f1 = obj[i][1], f2 = obj[i][2];
+            Map.Entry<Double, Double> floor = stairs.floorEntry(f1);
+            if (floor != null && floor.getValue() <= f2) continue;
+
+            front[size++] = i;
+            // Anak tangga dengan f1' >= f1 dan f2' >= f2 kini tertutup titik ini
+            Map.Entry<Double, Double> next = stairs.ceilingEntry(f1);
+            while (next != null && next.getValue() >= f2) {
+                stairs.remove(next.getKey());
+                next = stairs.higherEntry(next.getKey());
+            }
+            stairs.put(f1, f2);
+        }
+        return Arrays.copyOf(front, size);
+    }
+
+    // Pertahankan `keep` titik dengan crowding distance terbesar (NSGA-II)
+    private static int[] truncate(double[][] obj, int[] front, int keep) {
+        int k = front.length;
+        double[] crowding = new double[k];
+        Integer[] order = new Integer[k];
+        for (int d = 0; d < OBJECTIVES; d++) {
+            final int dim = d;
+            for (int i = 0; i < k; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Double.compare(obj[front[a]][dim], obj[front[b]][dim]));
+            double min = obj[front[order[0]]][d];
+            double range = obj[front[order[k - 1]]][d] - min;
+            crowding[order[0]] = Double.POSITIVE_INFINITY;
+            crowding[order[k - 1]] = Double.POSITIVE_INFINITY;
+            if (range == 0) continue;
+            for (int i = 1; i < k - 1; i++) {
+                crowding[order[i]] += (obj[front[order[i + 1]]][d] - obj[front[order[i - 1]]][d]) / range;
+            }
+        }
+        for (int i = 0; i < k; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(crowding[b], crowding[a]));
+        int[] kept = new int[keep];
+        for (int i = 0; i < keep; i++) kept[i] = front[order[i]];
+        Arrays.sort(kept);
+        return kept;
+    }
+
+    // Titik operasi: skor terkecil dari jumlah berbobot objektif yang dinormalisasi min-max atas arsip
+    int pick(double[] weights) {
+        double[] min = new double[OBJECTIVES];
+        double[] max = new double[OBJECTIVES];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        for (double[] o : objectives) {
+            for (int d = 0; d < OBJECTIVES; d++) {
+                min[d] = Math.min(min[d], o[d]);
+                max[d] = Math.max(max[d], o[d]);
+            }
+        }
+        int best = -1;
+        double bestScore = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < objectives.length; i++) {
+            double score = 0;
+            for (int d = 0; d < OBJECTIVES; d++) {
+                double range = max[d] - min[d];
+                if (range > 0) score += weights[d] * (objectives[i][d] - min[d]) / range;
+            }
+            if (score < bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    static boolean dominates(double[] a, double[] b) {
+        boolean strictly = false;
+        for (int d = 0; d < OBJECTIVES; d++) {
+            if (a[d] > b[d]) return false;
+            if (a[d] < b[d]) strictly = true;
+        }
+        return strictly;
+    }
+}
@@ -0,0 +1,185 @@
+package CloudsimExamplePackage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// ====================================================================
+// Instrumentasi ringan per run: waktu setiap fase (System.nanoTime),
+// byte yang dialokasikan thread pemanggil selama fase, heap terpakai di
+// akhir fase, dan jumlah evaluasi fitness. Hasilnya dicetak sebagai
+// satu baris JSON di samping baris Metrics, dan bisa ditulis ke file
+// JSON serta file Prometheus text format (mis. untuk textfile collector).
+// File dan label "config" memakai SimulationConfig.keyHash(), sehingga
+// sel sweep yang berbeda (dataset, topologi, parameter DBO, ...) tidak
+// saling menimpa meski mode dan seed-nya sama.
+// ====================================================================
+final class RunInstrumentation {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private final List<String> phases = new ArrayList<>();
+    private final List<long[]> samples = new ArrayList<>();  // {wallNanos, allocatedBytes, heapUsedBytes}
+
+    private String current;
+    private long startNanos;
+    private long startAllocated;
+
+    long fitnessEvaluations;
+
+    void begin(String phase) {
+        if (current != null) end();
+        current = phase;
+        startAllocated = allocatedBytes();
+        startNanos = System.nanoTime();
+    }
+
+    void end() {
+        if (current == null) return;
+        long wall = System.nanoTime() - startNanos;
+        long allocated = Math.max(0, allocatedBytes() - startAllocated);
+        phases.add(current);
+        samples.add(new long[]{wall, allocated, MEMORY.getHeapMemoryUsage().getUsed()});
+        current = null;
+    }
+
+    // -1 jika JVM tidak mendukung pengukuran alokasi per thread
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean t = (com.sun.management.ThreadMXBean) THREADS;
+            if (t.isThreadAllocatedMemorySupported() && t.isThreadAllocatedMemoryEnabled()) {
+                return t.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    long totalWallNanos() {
+        long total = 0;
+        for (long[] s : samples) total += s[0];
+        return total;
+    }
+
+    // Ringkasan satu baris untuk console
+    String summary() {
+        StringBuilder sb = new StringBuilder("Phases:");
+        for (int i = 0; i < phases.size(); i++) {
+            sb.append(String.format(Locale.ROOT, " %s=%.1fms", phases.get(i), samples.get(i)[0] / 1e6));
+        }
+        long allocated = 0;
+        for (long[] s : samples) allocated += s[1];
+        sb.append(String.format(Locale.ROOT, " | total=%.1fms | alloc=%.1fMB | evals=%d",
+                totalWallNanos() / 1e6, allocated / (1024.0 * 1024.0), fitnessEvaluations));
+        return sb.toString();
+    }
+
+    String toJson(SimulationConfig cfg, int cloudlets, int vms, RunMetrics metrics) {
+        StringBuilder sb = new StringBuilder("{\"mode\":").append(cfg.choice);
+        sb.append(",\"modeName\":");
+        SweepRunner.jsonString(sb, ExampleClass.schedulingModeName(cfg.choice));
+        sb.append(",\"seed\":").append(cfg.seed);
+        sb.append(",\"config\":\"").append(cfg.keyHash()).append('"');
+        sb.append(",\"params\":{");
+        List<String> args = cfg.toArgs();
+        for (int i = 0; i < args.size(); i++) {
+            String arg = args.get(i);
+            int eq = arg.indexOf('=');
+            if (i > 0) sb.append(',');
+            sb.append('"').append(arg, 0, eq).append("\":");
+            SweepRunner.jsonValue(sb, arg.substring(eq + 1));
+        }
+        sb.append('}');
+        sb.append(",\"cloudlets\":").append(cloudlets);
+        sb.append(",\"vms\":").append(vms);
+        sb.append(",\"phases\":{");
+        for (int i = 0; i < phases.size(); i++) {
+            long[] s = samples.get(i);
+            if (i > 0) sb.append(',');
+            sb.append('"').append(phases.get(i)).append("\":{\"wallMs\":").append(s[0] / 1e6)
+              .append(",\"allocatedBytes\":").append(s[1])
+              .append(",\"heapUsedBytes\":").append(s[2]).append('}');
+        }
+        sb.append("},\"totalWallMs\":").append(totalWallNanos() / 1e6);
+        sb.append(",\"fitnessEvaluations\":").append(fitnessEvaluations);
+        sb.append(",\"metrics\":{");
+        boolean first = true;
+        for (Map.Entry<String, Double> e : metrics.values().entrySet()) {
+            if (!first) sb.append(',');
+            first = false;
+            sb.append('"').append(e.getKey()).append("\":")
+              .append(Double.isFinite(e.getValue()) ? Double.toString(e.getValue()) : "null");
+        }
+        sb.append('}');
+        return sb.append('}').toString();
+    }
+
+    String toPrometheus(SimulationConfig cfg, RunMetrics metrics) {
+        String labels = "mode=\"" + cfg.choice + "\",seed=\"" + cfg.seed + "\",config=\"" + cfg.keyHash() + "\"";
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("# HELP cloudsim_phase_seconds Wall-clock time per simulation phase.\n");
+        sb.append("# TYPE cloudsim_phase_seconds gauge\n");
+        for (int i = 0; i < phases.size(); i++) {
+            sb.append("cloudsim_phase_seconds{phase=\"").append(phases.get(i)).append("\",").append(labels)
+              .append("} ").append(samples.get(i)[0] / 1e9).append('\n');
+        }
+        sb.append("# HELP cloudsim_phase_allocated_bytes Bytes allocated by the simulation thread per phase.\n");
+        sb.append("# TYPE cloudsim_phase_allocated_bytes gauge\n");
+        for (int i = 0; i < phases.size(); i++) {
+            sb.append("cloudsim_phase_allocated_bytes{phase=\"").append(phases.get(i)).append("\",").append(labels)
+              .append("} ").append(samples.get(i)[1]).append('\n');
+        }
+        sb.append("# HELP cloudsim_phase_heap_used_bytes Heap in use at the end of each phase.\n");
+        sb.append("# TYPE cloudsim_phase_heap_used_bytes gauge\n");
+        for (int i = 0; i < phases.size(); i++) {
+            sb.append("cloudsim_phase_heap_used_bytes{phase=\"").append(phases.get(i)).append("\",").append(labels)
+              .append("} ").append(samples.get(i)[2]).append('\n');
+        }
+        sb.append("# HELP cloudsim_fitness_evaluations_total Fitness evaluations performed by the scheduler.\n");
+        sb.append("# TYPE cloudsim_fitness_evaluations_total counter\n");
+        sb.append("cloudsim_fitness_evaluations_total{").append(labels).append("} ")
+          .append(fitnessEvaluations).append('\n');
+        sb.append("# HELP cloudsim_run_metric Simulation metrics reported by RunMetrics.\n");
+        sb.append("# TYPE cloudsim_run_metric gauge\n");
+        for (Map.Entry<String, Double> e : metrics.values().entrySet()) {
+            sb.append("cloudsim_run_metric{name=\"").append(e.getKey()).append("\",")
+              .append(labels).append("} ").append(prometheusNumber(e.getValue())).append('\n');
+        }
+        sb.append("# HELP cloudsim_datacenter_utilization_percent Busy time per datacenter over VMs x makespan.\n");
+        sb.append("# TYPE cloudsim_datacenter_utilization_percent gauge\n");
+        for (int dc = 0; dc < metrics.datacenterCount(); dc++) {
+            sb.append("cloudsim_datacenter_utilization_percent{datacenter=\"").append(dc).append("\",")
+              .append(labels).append("} ").append(prometheusNumber(metrics.datacenterUtilization(dc))).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static String prometheusNumber(double v) {
+        if (Double.isNaN(v)) return "NaN";
+        if (Double.isInfinite(v)) return v > 0 ? "+Inf" : "-Inf";
+        return Double.toString(v);
+    }
+
+    // Menulis run-mode<mode>-seed<seed>-<keyHash>.json dan .prom ke direktori yang diberikan
+    void write(Path dir, SimulationConfig cfg, int cloudlets, int vms, RunMetrics metrics) throws IOException {
+        Files.createDirectories(dir);
+        String base = "run-mode" + cfg.choice + "-seed" + cfg.seed + "-" + cfg.keyHash();
+        try (BufferedWriter w = Files.newBufferedWriter(dir.resolve(base + ".json"), StandardCharsets.UTF_8)) {
+            w.write(toJson(cfg, cloudlets, vms, metrics));
+            w.newLine();
+        }
+        try (BufferedWriter w = Files.newBufferedWriter(dir.resolve(base + ".prom"), StandardCharsets.UTF_8)) {
+            w.write(toPrometheus(cfg, metrics));
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package CloudsimExamplePackage;
+
+import org.cloudbus.cloudsim.Cloudlet;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// ====================================================================
+// Agregator metrik satu run, satu pass dan memori konstan terhadap
+// jumlah cloudlet: setiap cloudlet yang kembali langsung ditambahkan
+// (add) tanpa perlu getCloudletReceivedList. Selain metrik paper
+// (Section 4), dicatat distribusi wait/finish time (Histogram, bisa
+// digabung antar run) serta busy time per VM dan per datacenter.
+//
+// Metrik skalar diakses per nama (NAMES / value), bukan posisi array,
+// sehingga menambah metrik tidak menggeser kolom lain.
+// ====================================================================
+final class RunMetrics {
+
+    // Urutan kolom output CSV/JSON; 10 nama pertama sama dengan vektor metrik lama
+    static final String[] NAMES = {
+            "totalCpu", "totalWait", "avgStart", "avgExec", "avgFinish",
+            "throughput", "makespan", "imbalance", "utilization", "energyKwh",
+            "cloudlets", "waitP50", "waitP95", "waitP99", "finishP50", "finishP95", "finishP99",
+            "vmImbalance", "vmUtilMin", "vmUtilMax"
+    };
+
+    private static final String VERSION = "v1";
+
+    private long finished;
+    private double totalCpu, totalWait, sumStart, sumExec, sumFinish, makespan;
+    private final Histogram wait;
+    private final Histogram finish;
+
+    private final int[] vmIds;           // ID CloudSim per indeks VM
+    private final int[] vmDatacenter;    // indeks datacenter per indeks VM
+    private final int datacenterCount;
+    private final double[] vmBusy;       // actual CPU time per indeks VM
+    private final int[] vmIndexById;     // ID VM -> indeks, -1 jika tidak dikenal
+
+    RunMetrics(int[] vmIds, int[] vmDatacenter, int datacenterCount) {
+        this(vmIds, vmDatacenter, datacenterCount, new double[vmIds.length], new Histogram(), new Histogram());
+    }
+
+    private RunMetrics(int[] vmIds, int[] vmDatacenter, int datacenterCount, double[] vmBusy,
+                       Histogram wait, Histogram finish) {
+        this.vmIds = vmIds;
+        this.vmDatacenter = vmDatacenter;
+        this.datacenterCount = datacenterCount;
+        this.vmBusy = vmBusy;
+        this.wait = wait;
+        this.finish = finish;
+
+        int maxId = -1;
+        for (int id : vmIds) maxId = Math.max(maxId, id);
+        vmIndexById = new int[maxId + 1];
+        Arrays.fill(vmIndexById, -1);
+        for (int j = 0; j < vmIds.length; j++) vmIndexById[vmIds[j]] = j;
+    }
+
+    void add(Cloudlet c) {
+        add(c.getVmId(), c.getActualCPUTime(), c.getWaitingTime(), c.getExecStartTime(), c.getFinishTime());
+    }
+
+    void add(int vmId, double cpu, double waiting, double start, double finishTime) {
+        finished++;
+        totalCpu += cpu;
+        totalWait += waiting;
+        sumStart += start;
+        sumExec += cpu;
+        sumFinish += finishTime;
+        makespan = Math.max(makespan, finishTime);
+        wait.record(waiting);
+        finish.record(finishTime);
+        if (vmId >= 0 && vmId < vmIndexById.length && vmIndexById[vmId] >= 0) {
+            vmBusy[vmIndexById[vmId]] += cpu;
+        }
+    }
+
+    // ====================================================================
+    // Metrik turunan
+    // ====================================================================
+
+    long finished() {
+        return finished;
+    }
+
+    double makespan() {
+        return makespan;
+    }
+
+    Histogram waitHistogram() {
+        return wait;
+    }
+
+    Histogram finishHistogram() {
+        return finish;
+    }
+
+    int vmCount() {
+        return vmIds.length;
+    }
+
+    int datacenterCount() {
+        return datacenterCount;
+    }
+
+    double vmUtilization(int vm) {
+        return vmBusy[vm] / makespan * 100;
+    }
+
+    // Busy time datacenter dibagi (jumlah VM di datacenter x makespan)
+    double datacenterUtilization(int dc) {
+        double busy = 0;
+        int vms = 0;
+        for (int j = 0; j < vmBusy.length; j++) {
+            if (vmDatacenter[j] == dc) {
+                busy += vmBusy[j];
+                vms++;
+            }
+        }
+        return vms == 0 ? Double.NaN : busy / (vms * makespan) * 100;
+    }
+
+    // Degree of imbalance antar VM: (Tmax - Tmin) / Tavg atas busy time per VM
+    double vmImbalance() {
+        if (vmBusy.length == 0) return Double.NaN;
+        double min = Double.MAX_VALUE, max = 0, sum = 0;
+        for (double b : vmBusy) {
+            min = Math.min(min, b);
+            max = Math.max(max, b);
+            sum += b;
+        }
+        double avg = sum / vmBusy.length;
+        return avg == 0 ? 0 : (max - min) / avg;
+    }
+
+    double value(String name) {
+        switch (name) {
+            case "totalCpu": return totalCpu;
+            case "totalWait": return totalWait;
+            case "avgStart": return sumStart / finished;
+            case "avgExec": return sumExec / finished;
+            case "avgFinish": return sumFinish / finished;
+            case "throughput": return finished / makespan;                           // Tasks per unit time
+            case "makespan": return makespan;
+            case "imbalance": return sumFinish / finished - sumExec / finished;      // Degree of imbalance
+            case "utilization": return totalCpu / (vmIds.length * makespan) * 100;   // Resource utilization
+            case "energyKwh": return makespan * 0.000277;                           // Energy consumption (kWh)
+            case "cloudlets": return finished;
+            case "waitP50": return wait.percentile(50);
+            case "waitP95": return wait.percentile(95);
+            case "waitP99": return wait.percentile(99);
+            case "finishP50": return finish.percentile(50);
+            case "finishP95": return finish.percentile(95);
+            case "finishP99": return finish.percentile(99);
+            case "vmImbalance": return vmImbalance();
+            case "vmUtilMin": return extremeVmUtilization(false);
+            case "vmUtilMax": return extremeVmUtilization(true);
+            default: throw new IllegalArgumentException("Unknown metric: " + name);
+        }
+    }
+
+    private double extremeVmUtilization(boolean max) {
+        if (vmBusy.length == 0) return Double.NaN;
+        double result = max ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        for (int j = 0; j < vmBusy.length; j++) {
+            double u = vmUtilization(j);
+            result = max ? Math.max(result, u) : Math.min(result, u);
+        }
+        return result;
+    }
+
+    // Arah optimasi per metrik, untuk pengurutan kandidat (ContentionModel, screening sweep)
+    static boolean higherIsBetter(String name) {
+        switch (name) {
+            case "throughput":
+            case "utilization":
+            case "cloudlets":
+            case "vmUtilMin":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    Map<String, Double> values() {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (String name : NAMES) values.put(name, value(name));
+        return values;
+    }
+
+    void print() {
+        System.out.printf("Metrics: CPU=%.2f | Wait=%.2f | Makespan=%.2f | Throughput=%.4f | Util=%.2f%%\n",
+                totalCpu, totalWait, makespan, value("throughput"), value("utilization"));
+        System.out.printf("Distribusi: wait p50/p95/p99 = %.2f/%.2f/%.2f | finish p50/p95/p99 = %.2f/%.2f/%.2f"
+                        + " | VM util min/max = %.1f%%/%.1f%% | VM imbalance = %.3f%n",
+                value("waitP50"), value("waitP95"), value("waitP99"),
+                value("finishP50"), value("finishP95"), value("finishP99"),
+                value("vmUtilMin"), value("vmUtilMax"), vmImbalance());
+        StringBuilder sb = new StringBuilder("Utilisasi per datacenter:");
+        for (int dc = 0; dc < datacenterCount; dc++) {
+            double u = datacenterUtilization(dc);
+            sb.append(" DC").append(dc).append('=').append(Double.isNaN(u) ? "n/a" : String.format("%.1f%%", u));
+        }
+        System.out.println(sb);
+    }
+
+    // ====================================================================
+    // Serialisasi state mentah (bukan nilai turunan) untuk protokol worker,
+    // sehingga histogram tetap bisa digabung di proses induk. Field
+    // dipisah tab; Double.toString menjaga presisi penuh.
+    // ====================================================================
+
+    String encode() {
+        StringBuilder sb = new StringBuilder(VERSION);
+        sb.append('\t').append(finished).append('\t').append(totalCpu).append('\t').append(totalWait)
+          .append('\t').append(sumStart).append('\t').append(sumExec).append('\t').append(sumFinish)
+          .append('\t').append(makespan).append('\t').append(datacenterCount);
+        sb.append('\t').append(join(vmIds));
+        sb.append('\t').append(join(vmDatacenter));
+        sb.append('\t');
+        for (int j = 0; j < vmBusy.length; j++) {
+            if (j > 0) sb.append(',');
+            sb.append(vmBusy[j]);
+        }
+        sb.append('\t').append(wait.encode());
+        sb.append('\t').append(finish.encode());
+        return sb.toString();
+    }
+
+    static RunMetrics decode(String s) {
+        String[] f = s.split("\t", -1);
+        if (f.length != 14 || !f[0].equals(VERSION)) throw new IllegalArgumentException("Bad metrics: " + s);
+        int[] vmIds = splitInts(f[9]);
+        int[] vmDatacenter = splitInts(f[10]);
+        double[] vmBusy = new double[vmIds.length];
+        if (!f[11].isEmpty()) {
+            String[] parts = f[11].split(",");
+            for (int j = 0; j < parts.length; j++) vmBusy[j] = Double.parseDouble(parts[j]);
+        }
+        RunMetrics m = new RunMetrics(vmIds, vmDatacenter, Integer.parseInt(f[8]), vmBusy,
+                Histogram.decode(f[12]), Histogram.decode(f[13]));
+        m.finished = Long.parseLong(f[1]);
+        m.totalCpu = Double.parseDouble(f[2]);
+        m.totalWait = Double.parseDouble(f[3]);
+        m.sumStart = Double.parseDouble(f[4]);
+        m.sumExec = Double.parseDouble(f[5]);
+        m.sumFinish = Double.parseDouble(f[6]);
+        m.makespan = Double.parseDouble(f[7]);
+        return m;
+    }
+
+    private static String join(int[] values) {
+        StringBuilder sb = new StringBuilder();
+        for (int j = 0; j < values.length; j++) {
+            if (j > 0) sb.append(',');
+            sb.append(values[j]);
+        }
+        return sb.toString();
+    }
+
+    private static int[] splitInts(String s) {
+        if (s.isEmpty()) return new int[0];
+        String[] parts = s.split(",");
+        int[] values = new int[parts.length];
+        for (int j = 0; j < parts.length; j++) values[j] = Integer.parseInt(parts[j]);
+        return values;
+    }
+}
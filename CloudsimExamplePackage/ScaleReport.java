@@ -0,0 +1,174 @@
+package CloudsimExamplePackage;
+
+import org.cloudbus.cloudsim.Datacenter;
+import org.cloudbus.cloudsim.Vm;
+import org.cloudbus.cloudsim.VmAllocationPolicy;
+import org.cloudbus.cloudsim.core.CloudSim;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+// ====================================================================
+// Laporan skala infrastruktur (ExampleClass --scale-report): topologi
+// run dikalikan topologyScale = 1, 10, 100, ... lalu diukur per skala:
+//  - build   : createDatacenters (Host, Pe, provisioner, VmScheduler)
+//  - VM      : createVMList (Vm + CloudletScheduler)
+//  - place   : alokasi semua VM lewat allocation policy datacenter
+//              dengan fallback ke datacenter berikutnya, seperti broker
+//  - free    : deallocateHostForVm semua VM (VM_DESTROY di akhir run)
+//  - run     : runSimulation penuh (dataset + scheduler + event loop)
+// Memori = heap terpakai setelah GC, dibagi jumlah host / VM. Biaya per
+// host atau per VM yang naik lebih dari 2x antar skala (untuk 10x
+// entitas) ditandai sebagai titik di mana simulasi berhenti linear.
+// ====================================================================
+final class ScaleReport {
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    // Kenaikan biaya per entitas antar skala yang dianggap tidak lagi linear
+    static final double SUPERLINEAR_RATIO = 2.0;
+
+    private static final String[] COLUMNS = {
+            "scale", "hosts", "vms", "buildMs", "usPerHost", "bytesPerHost", "vmMs", "bytesPerVm",
+            "placeMs", "usPerVm", "placed", "freeMs", "runMs"
+    };
+
+    private ScaleReport() {
+    }
+
+    static void run(SimulationConfig base, int[] scales) throws IOException {
+        List<double[]> rows = new ArrayList<>();
+        for (int scale : scales) {
+            SimulationConfig cfg = base.copy();
+            cfg.topologyScale = base.topologyScale * scale;
+            System.out.printf("%n========== SCALE %dx ==========%n", scale);
+            rows.add(measure(cfg, scale));
+        }
+        print(base, rows);
+        if (!base.metricsDir.isEmpty()) write(Paths.get(base.metricsDir).resolve("scale-report.csv"), rows);
+    }
+
+    private static double[] measure(SimulationConfig cfg, int scale) {
+        Topology topology = Topology.of(cfg);
+        int hosts = topology.hostCount();
+        System.out.println(topology.describe());
+
+        CloudSim.init(1, Calendar.getInstance(), false);
+        long heap0 = usedHeapAfterGc();
+        long t0 = System.nanoTime();
+        List<Datacenter> datacenters = ExampleClass.createDatacenters(topology);
+        long buildNanos = System.nanoTime() - t0;
+        long heapHosts = usedHeapAfterGc();
+
+        ExampleClass.rng = new Random(cfg.seed);
+        t0 = System.nanoTime();
+        List<Vm> vms = ExampleClass.createVMList(0, topology, cfg.pesPerVm);
+        long vmNanos = System.nanoTime() - t0;
+        long heapVms = usedHeapAfterGc();
+
+        // Penempatan seperti DatacenterBroker: VM yang ditolak dicoba di datacenter berikutnya
+        t0 = System.nanoTime();
+        List<Vm> pending = vms;
+        List<Vm> placed = new ArrayList<>(vms.size());
+        List<VmAllocationPolicy> placedBy = new ArrayList<>(vms.size());
+        for (Datacenter dc : datacenters) {
+            if (pending.isEmpty()) break;
+            VmAllocationPolicy policy = dc.getVmAllocationPolicy();
+            List<Vm> rejected = new ArrayList<>();
+            for (Vm vm : pending) {
+                if (policy.allocateHostForVm(vm)) {
+                    placed.add(vm);
+                    placedBy.add(policy);
+                } else {
+                    rejected.add(vm);
+                }
+            }
+            pending = rejected;
+        }
+        long placeNanos = System.nanoTime() - t0;
+
+        t0 = System.nanoTime();
+        for (int j = 0; j < placed.size(); j++) placedBy.get(j).deallocateHostForVm(placed.get(j));
+        long freeNanos = System.nanoTime() - t0;
+
+        long runStart = System.nanoTime();
+        ExampleClass.runSimulation(cfg);
+        long runNanos = System.nanoTime() - runStart;
+
+        int m = vms.size();
+        return new double[]{
+                scale, hosts, m,
+                buildNanos / 1e6, buildNanos / 1e3 / Math.max(1, hosts), (double) (heapHosts - heap0) / Math.max(1, hosts),
+                vmNanos / 1e6, (double) (heapVms - heapHosts) / Math.max(1, m),
+                placeNanos / 1e6, placeNanos / 1e3 / Math.max(1, m), placed.size(),
+                freeNanos / 1e6, runNanos / 1e6
+        };
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) System.gc();
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void print(SimulationConfig base, List<double[]> rows) {
+        System.out.printf("%n========== SCALE REPORT (%s, mode %d) ==========%n",
+                base.topology.isEmpty() ? "topologi default" : base.topology, base.choice);
+        System.out.printf("%-7s %-8s %-8s %-10s %-9s %-10s %-9s %-9s %-10s %-8s %-9s %-9s %-10s%n",
+                "Scale", "Hosts", "VMs", "Build ms", "us/host", "B/host", "VM ms", "B/VM",
+                "Place ms", "us/VM", "Placed", "Free ms", "Run ms");
+        for (double[] r : rows) {
+            System.out.printf(Locale.ROOT,
+                    "%-7s %-8d %-8d %-10.1f %-9.2f %-10.0f %-9.1f %-9.0f %-10.1f %-8.2f %-9d %-9.1f %-10.1f%n",
+                    (int) r[0] + "x", (long) r[1], (long) r[2], r[3], r[4], r[5], r[6], r[7],
+                    r[8], r[9], (long) r[10], r[11], r[12]);
+        }
+
+        // Biaya per entitas antar skala berurutan; run dinormalisasi ke host + VM
+        boolean linear = true;
+        for (int k = 1; k < rows.size(); k++) {
+            double[] prev = rows.get(k - 1), cur = rows.get(k);
+            linear &= check("build per host", prev[4], cur[4], prev, cur);
+            linear &= check("placement per VM", prev[9], cur[9], prev, cur);
+            linear &= check("free per VM", prev[11] / prev[2], cur[11] / cur[2], prev, cur);
+            linear &= check("run per host+VM", prev[12] / (prev[1] + prev[2]), cur[12] / (cur[1] + cur[2]), prev, cur);
+        }
+        if (linear) System.out.println("✓ Semua fase tetap linear terhadap jumlah host dan VM pada skala yang diuji");
+    }
+
+    private static boolean check(String what, double prev, double cur, double[] prevRow, double[] curRow) {
+        if (prev <= 0 || cur / prev <= SUPERLINEAR_RATIO) return true;
+        System.out.printf(Locale.ROOT, "⚠️ %s naik %.1fx dari %dx ke %dx (%d -> %d host, %d -> %d VM)%n",
+                what, cur / prev, (int) prevRow[0], (int) curRow[0],
+                (long) prevRow[1], (long) curRow[1], (long) prevRow[2], (long) curRow[2]);
+        return false;
+    }
+
+    private static void write(Path file, List<double[]> rows) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write(String.join(",", COLUMNS));
+            w.newLine();
+            for (double[] r : rows) {
+                StringBuilder sb = new StringBuilder();
+                for (int c = 0; c < r.length; c++) {
+                    if (c > 0) sb.append(',');
+                    sb.append(r[c] == Math.rint(r[c]) ? Long.toString((long) r[c]) : Double.toString(r[c]));
+                }
+                w.write(sb.toString());
+                w.newLine();
+            }
+        }
+        System.out.println("Scale report ditulis ke " + file);
+    }
+}
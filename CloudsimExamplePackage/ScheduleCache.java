@@ -0,0 +1,323 @@
+package CloudsimExamplePackage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// ====================================================================
+// Cache jadwal hasil DBO / Island DBO di disk. Kunci = hash 128-bit dari
+// length cloudlet, kapasitas VM (mips * pes), parameter algoritma, dan
+// seed run. Karena rng di-reset per run, kombinasi tersebut menentukan
+// hasil DBO sepenuhnya: invocation berikutnya dengan dataset, VM, dan
+// seed yang sama langsung memakai jadwal tersimpan tanpa optimasi.
+//
+// Satu file per entri (<algoritma>-<n>x<m>-<hash>.sched), ditulis atomik
+// seperti DatasetCache dan dilindungi checksum. mtime file berfungsi
+// sebagai waktu akses terakhir: hit memperbarui mtime, dan setelah entri
+// baru ditulis, file dengan mtime tertua dihapus sampai total ukuran di
+// bawah scheduleCacheMaxMb (LRU).
+//
+// Warm start (scheduleWarmStart=true): entri dengan algoritma dan ukuran
+// (n cloudlet x m VM) sama yang workload-nya paling mirip dimasukkan
+// sebagai satu individu awal populasi DBO. Setiap entri menyimpan length
+// cloudlet dan kapasitas VM per indeks (float); jarak = selisih absolut
+// relatif terhadap total, dijumlahkan untuk cloudlet dan VM. Kandidat
+// dengan jarak di atas WARM_START_MAX_DISTANCE diabaikan, karena jadwal
+// cloudlet i -> VM j hanya bermakna jika indeks i dan j berarti hal yang
+// sama. Hasil run warm start bergantung pada isi direktori cache, jadi
+// tidak dibaca atau disimpan di bawah kunci (lihat cacheable).
+//
+// Run dengan dboTimeBudgetMs (hasil bergantung wall-clock) atau
+// dboTraceDir (trace konvergensi harus ditulis) tidak memakai cache.
+// ====================================================================
+final class ScheduleCache {
+
+    static final String SUFFIX = ".sched";
+
+    private static final int MAGIC = 0x53434843;  // "SCHC"
+    private static final int VERSION = 2;
+    // magic, version, keyHi, keyLo, cloudlets, vms, fitness, payloadHash
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4 + 4 + 8 + 8;
+
+    // Jarak workload maksimum (relatif, cloudlet + VM) agar entri dipakai untuk warm start
+    static final double WARM_START_MAX_DISTANCE = 0.1;
+
+    private final Path dir;
+    private final long maxBytes;
+
+    private ScheduleCache(Path dir, long maxBytes) {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+    }
+
+    // null jika cache dimatikan (scheduleCache kosong) atau hasil run tidak deterministik
+    static ScheduleCache open(SimulationConfig cfg) {
+        if (cfg.scheduleCache.isEmpty() || cfg.dboTimeBudgetMs > 0 || !cfg.dboTraceDir.isEmpty()) return null;
+        return new ScheduleCache(Paths.get(cfg.scheduleCache), cfg.scheduleCacheMaxMb * 1024L * 1024L);
+    }
+
+    static final class Key {
+        final String algorithm;
+        final int cloudlets;
+        final int vms;
+        final long hi;
+        final long lo;
+
+        Key(String algorithm, int cloudlets, int vms, long hi, long lo) {
+            this.algorithm = algorithm;
+            this.cloudlets = cloudlets;
+            this.vms = vms;
+            this.hi = hi;
+            this.lo = lo;
+        }
+
+        // Prefix sama = kandidat warm start
+        String prefix() {
+            return algorithm + "-" + cloudlets + "x" + vms + "-";
+        }
+
+        String fileName() {
+            return String.format("%s%016x%016x%s", prefix(), hi, lo, SUFFIX);
+        }
+    }
+
+    static final class Entry {
+        final int[] assignment;
+        final double fitness;
+        final float[] length;    // length cloudlet saat entri ditulis, per indeks
+        final float[] capacity;  // kapasitas VM saat entri ditulis, per indeks
+
+        Entry(int[] assignment, double fitness, float[] length, float[] capacity) {
+            this.assignment = assignment;
+            this.fitness = fitness;
+            this.length = length;
+            this.capacity = capacity;
+        }
+
+        // Selisih absolut relatif terhadap workload model; 0 = identik
+        double distance(SchedulingModel model) {
+            double dl = 0, totalLength = 0;
+            for (int i = 0; i < length.length; i++) {
+                dl += Math.abs(model.length[i] - length[i]);
+                totalLength += model.length[i];
+            }
+            double dc = 0, totalCapacity = 0;
+            for (int j = 0; j < capacity.length; j++) {
+                dc += Math.abs(model.capacity[j] - capacity[j]);
+                totalCapacity += model.capacity[j];
+            }
+            return dl / Math.max(1e-9, totalLength) + dc / Math.max(1e-9, totalCapacity);
+        }
+    }
+
+    // Hasil boleh dibaca/disimpan di bawah kunci hanya jika tidak di-seed dari entri lain
+    static boolean cacheable(SimulationConfig cfg, int[] warm) {
+        return !cfg.scheduleWarmStart || warm == null;
+    }
+
+    // Semua input yang memengaruhi hasil; ISLANDS/MIGRATION_INTERVAL hanya relevan untuk Island DBO
+    Key key(String algorithm, SchedulingModel model, SimulationConfig cfg) {
+        Hasher h = new Hasher();
+        h.add(VERSION);
+        h.add(algorithm);
+        h.add(model.cloudletCount);
+        h.add(model.vmCount);
+        for (long len : model.length) h.add(len);
+        for (double c : model.capacity) h.add(Double.doubleToLongBits(c));
+        h.add(cfg.population);
+        h.add(cfg.maxIter);
+        h.add(Double.doubleToLongBits(cfg.probLocal));
+        h.add(cfg.greedySeed ? 1 : 0);
+        h.add(cfg.dboEvalBudget);
+        h.add(cfg.dboStallIters);
+        h.add(IslandDBO.ISLANDS);
+        h.add(IslandDBO.MIGRATION_INTERVAL);
+        h.add(cfg.seed);
+        return new Key(algorithm, model.cloudletCount, model.vmCount, h.hi(), h.lo());
+    }
+
+    Entry get(Key key) {
+        Path file = dir.resolve(key.fileName());
+        if (!Files.exists(file)) return null;
+        try {
+            Entry entry = read(file, key, true);
+            if (entry != null) Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("⚠️ Cache jadwal rusak, dihapus: " + file + " (" + e.getMessage() + ")");
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    // Entri algoritma dan ukuran sama dengan workload paling mirip (jarak <= batas), atau null.
+    // Seri jarak diputus oleh mtime terbaru
+    int[] warmStart(Key key, SchedulingModel model) {
+        if (!Files.isDirectory(dir)) return null;
+        Entry best = null;
+        double bestDistance = WARM_START_MAX_DISTANCE;
+        FileTime bestTime = null;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, key.prefix() + "*" + SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    Entry entry = read(file, key, false);
+                    if (entry == null) continue;
+                    double d = entry.distance(model);
+                    FileTime t = Files.getLastModifiedTime(file);
+                    if (d < bestDistance || (d == bestDistance && (bestTime == null || t.compareTo(bestTime) > 0))) {
+                        best = entry;
+                        bestDistance = d;
+                        bestTime = t;
+                    }
+                } catch (IOException | RuntimeException e) {
+                    // Entri rusak atau dihapus worker lain; get() yang membersihkannya
+                }
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return best == null ? null : best.assignment;
+    }
+
+    void put(Key key, SchedulingModel model, int[] assignment, double fitness) {
+        try {
+            Files.createDirectories(dir);
+            ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES + 8 * assignment.length + 4 * model.vmCount);
+            buf.position(HEADER_BYTES);
+            for (int vm : assignment) buf.putInt(vm);
+            for (long len : model.length) buf.putFloat(len);
+            for (double c : model.capacity) buf.putFloat((float) c);
+            buf.position(0);
+            buf.putInt(MAGIC).putInt(VERSION).putLong(key.hi).putLong(key.lo)
+               .putInt(key.cloudlets).putInt(key.vms).putDouble(fitness).putLong(payloadHash(buf));
+
+            // Ditulis ke file sementara lalu di-rename, aman walau beberapa worker menulis bersamaan
+            Path file = dir.resolve(key.fileName());
+            Path tmp = Files.createTempFile(dir, key.fileName(), ".tmp");
+            try {
+                Files.write(tmp, buf.array());
+                try {
+                    Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            evict();
+        } catch (IOException e) {
+            // Direktori read-only dsb.: jadwal tetap dipakai, hanya tidak disimpan
+            System.err.println("⚠️ Gagal menulis cache jadwal di " + dir + ": " + e.getMessage());
+        }
+    }
+
+    // Hapus entri dengan akses terlama sampai total ukuran <= maxBytes
+    private void evict() throws IOException {
+        List<Path> files = new ArrayList<>();
+        List<BasicFileAttributes> attrs = new ArrayList<>();
+        long total = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+            for (Path file : stream) {
+                try {
+                    BasicFileAttributes a = Files.readAttributes(file, BasicFileAttributes.class);
+                    files.add(file);
+                    attrs.add(a);
+                    total += a.size();
+                } catch (IOException e) {
+                    // Sudah dihapus worker lain
+                }
+            }
+        }
+        if (total <= maxBytes) return;
+
+        Integer[] order = new Integer[files.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> attrs.get(a).lastModifiedTime().compareTo(attrs.get(b).lastModifiedTime()));
+        for (int i = 0; i < order.length && total > maxBytes; i++) {
+            deleteQuietly(files.get(order[i]));
+            total -= attrs.get(order[i]).size();
+        }
+    }
+
+    // Mengembalikan null jika versi/kunci tidak cocok; melempar exception jika rusak
+    private static Entry read(Path file, Key key, boolean exactKey) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buf.capacity() < HEADER_BYTES) throw new IOException("header terpotong");
+        if (buf.getInt() != MAGIC) throw new IOException("magic tidak cocok");
+        if (buf.getInt() != VERSION) return null;
+        long hi = buf.getLong();
+        long lo = buf.getLong();
+        int cloudlets = buf.getInt();
+        int vms = buf.getInt();
+        double fitness = buf.getDouble();
+        long payloadHash = buf.getLong();
+
+        if (exactKey && (hi != key.hi || lo != key.lo)) return null;
+        if (cloudlets != key.cloudlets || vms != key.vms) return null;
+        if (buf.capacity() != HEADER_BYTES + 8L * cloudlets + 4L * vms) {
+            throw new IOException("ukuran payload tidak cocok");
+        }
+        if (payloadHash(buf) != payloadHash) throw new IOException("checksum payload tidak cocok");
+
+        int[] assignment = new int[cloudlets];
+        buf.position(HEADER_BYTES);
+        for (int i = 0; i < cloudlets; i++) {
+            int vm = buf.getInt();
+            if (vm < 0 || vm >= vms) throw new IOException("indeks VM di luar rentang: " + vm);
+            assignment[i] = vm;
+        }
+        float[] length = new float[cloudlets];
+        for (int i = 0; i < cloudlets; i++) length[i] = buf.getFloat();
+        float[] capacity = new float[vms];
+        for (int j = 0; j < vms; j++) capacity[j] = buf.getFloat();
+        return new Entry(assignment, fitness, length, capacity);
+    }
+
+    private static long payloadHash(ByteBuffer buf) {
+        Hasher h = new Hasher();
+        for (int i = HEADER_BYTES; i + 4 <= buf.capacity(); i += 4) h.add(buf.getInt(i));
+        return h.hi();
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Diabaikan; akan dicoba lagi pada eviction berikutnya
+        }
+    }
+
+    // Dua lane multiply-rotate independen (128 bit), cukup untuk menghindari tabrakan kunci
+    private static final class Hasher {
+        private long h1 = 0x9E3779B97F4A7C15L;
+        private long h2 = 0xC2B2AE3D27D4EB4FL;
+
+        void add(long v) {
+            h1 = Long.rotateLeft(h1 ^ (v * 0xC2B2AE3D27D4EB4FL), 31) * 0x9E3779B97F4A7C15L;
+            h2 = Long.rotateLeft(h2 ^ (v * 0x165667B19E3779F9L), 27) * 0xD6E8FEB86659FD93L;
+        }
+
+        void add(String s) {
+            add(s.length());
+            for (int i = 0; i < s.length(); i++) add(s.charAt(i));
+        }
+
+        long hi() {
+            return h1 ^ (h1 >>> 29);
+        }
+
+        long lo() {
+            return h2 ^ (h2 >>> 32);
+        }
+    }
+}
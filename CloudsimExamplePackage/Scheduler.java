@@ -0,0 +1,27 @@
+package CloudsimExamplePackage;
+
+import org.cloudbus.cloudsim.Cloudlet;
+
+import java.util.List;
+
+// ====================================================================
+// SPI scheduler: menghasilkan penugasan padat int[] dengan
+// assignment[i] = indeks VM (di SchedulingModel) untuk cloudlet ke-i.
+// Implementasi didaftarkan di SchedulerRegistry berdasarkan nomor mode,
+// jadi algoritma baru tidak perlu mengubah runSimulation.
+// ====================================================================
+interface Scheduler {
+
+    // Nama yang ditampilkan di menu dan output
+    String name();
+
+    int[] schedule(SchedulingModel model, SimulationConfig cfg);
+
+    // Satu pass tanpa alokasi; urutan cloudlets sama dengan urutan model (SchedulingModel.of)
+    static void apply(SchedulingModel model, int[] assignment, List<Cloudlet> cloudlets) {
+        int[] vmId = model.vmId;
+        for (int i = 0; i < assignment.length; i++) {
+            cloudlets.get(i).setVmId(vmId[assignment[i]]);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package CloudsimExamplePackage;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// ====================================================================
+// Registry scheduler per nomor mode menu. Mode 1 (No Scheduling) tidak
+// terdaftar: cloudlet diserahkan ke broker default tanpa vmId. Mode
+// streaming juga tidak: penugasannya online di StreamingBroker.
+// ====================================================================
+final class SchedulerRegistry {
+
+    static final String NO_SCHEDULING = "No Scheduling";
+
+    private static final Map<Integer, Scheduler> SCHEDULERS = new LinkedHashMap<>();
+
+    static {
+        register(2, "Round Robin", (model, cfg) -> ExampleClass.RoundRobinScheduling(model));
+        register(3, "DBO (EASA-MORU)", ExampleClass::DBOAlgorithm);
+        register(4, "Island DBO (EASA-MORU)", ExampleClass::IslandDBOAlgorithm);
+        register(5, "Least Completion Time", (model, cfg) -> ExampleClass.HeuristicSchedulingAlgorithm(model, 5));
+        register(6, "Min-Min", (model, cfg) -> ExampleClass.HeuristicSchedulingAlgorithm(model, 6));
+        register(7, "Max-Min", (model, cfg) -> ExampleClass.HeuristicSchedulingAlgorithm(model, 7));
+        register(9, "Multi-objective DBO (Pareto)", ExampleClass::MultiObjectiveDBOAlgorithm);
+    }
+
+    private SchedulerRegistry() {
+    }
+
+    static void register(int mode, Scheduler scheduler) {
+        if (mode <= 1) throw new IllegalArgumentException("Mode 1 is reserved for No Scheduling: " + mode);
+        if (mode == ExampleClass.STREAMING_MODE) {
+            throw new IllegalArgumentException("Mode " + mode + " is reserved for streaming");
+        }
+        if (SCHEDULERS.putIfAbsent(mode, scheduler) != null) {
+            throw new IllegalArgumentException("Mode already registered: " + mode);
+        }
+    }
+
+    // Untuk lambda/method reference: nama diberikan terpisah
+    static void register(int mode, String name, SchedulingFunction fn) {
+        register(mode, new Scheduler() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public int[] schedule(SchedulingModel model, SimulationConfig cfg) {
+                return fn.schedule(model, cfg);
+            }
+        });
+    }
+
+    // null untuk mode tanpa scheduler (No Scheduling atau mode tidak dikenal)
+    static Scheduler get(int mode) {
+        return SCHEDULERS.get(mode);
+    }
+
+    static String name(int mode) {
+        Scheduler s = SCHEDULERS.get(mode);
+        return s == null ? NO_SCHEDULING : s.name();
+    }
+
+    // Mode terdaftar dalam urutan registrasi, untuk menu interaktif
+    static Map<Integer, Scheduler> all() {
+        return Collections.unmodifiableMap(SCHEDULERS);
+    }
+
+    interface SchedulingFunction {
+        int[] schedule(SchedulingModel model, SimulationConfig cfg);
+    }
+}
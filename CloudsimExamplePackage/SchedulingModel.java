@@ -0,0 +1,89 @@
+package CloudsimExamplePackage;
+
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Vm;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// ====================================================================
+// Model penjadwalan dalam bentuk array primitif (struct-of-arrays).
+// Dibangun sekali per run dari list Cloudlet/Vm CloudSim lalu dipakai
+// bersama oleh semua scheduler, sehingga loop fitness tidak lagi
+// memanggil getter CloudSim atau melakukan boxing.
+// ====================================================================
+final class SchedulingModel {
+
+    final int cloudletCount;
+    final int vmCount;
+
+    final int[] cloudletId;   // ID CloudSim per indeks cloudlet
+    final long[] length;      // Cl_i_total dalam MI
+    final int[] vmId;         // ID CloudSim per indeks VM
+    final double[] capacity;  // total_mips(vm_j) = mips * pes
+
+    // Jumlah evaluasi fitness (makespan) oleh semua scheduler; aman untuk thread pulau IslandDBO
+    final LongAdder evaluations = new LongAdder();
+
+    private SchedulingModel(int[] cloudletId, long[] length, int[] vmId, double[] capacity) {
+        this.cloudletCount = length.length;
+        this.vmCount = capacity.length;
+        this.cloudletId = cloudletId;
+        this.length = length;
+        this.vmId = vmId;
+        this.capacity = capacity;
+    }
+
+    static SchedulingModel of(List<Cloudlet> cloudlets, List<Vm> vms) {
+        int n = cloudlets.size();
+        int[] cloudletId = new int[n];
+        long[] length = new long[n];
+        for (int i = 0; i < n; i++) {
+            Cloudlet c = cloudlets.get(i);
+            cloudletId[i] = c.getCloudletId();
+            length[i] = c.getCloudletLength();
+        }
+
+        int m = vms.size();
+        int[] vmId = new int[m];
+        double[] capacity = new double[m];
+        for (int j = 0; j < m; j++) {
+            Vm vm = vms.get(j);
+            vmId[j] = vm.getId();
+            capacity[j] = vm.getMips() * vm.getNumberOfPes();
+        }
+        return new SchedulingModel(cloudletId, length, vmId, capacity);
+    }
+
+    // Model langsung dari array (ID = indeks), mis. untuk benchmark tanpa objek CloudSim
+    static SchedulingModel of(long[] length, double[] capacity) {
+        int[] cloudletId = new int[length.length];
+        for (int i = 0; i < cloudletId.length; i++) cloudletId[i] = i;
+        int[] vmId = new int[capacity.length];
+        for (int j = 0; j < vmId.length; j++) vmId[j] = j;
+        return new SchedulingModel(cloudletId, length, vmId, capacity);
+    }
+
+    // ET(Cl_i, vm_j) = Cl_i_total / total_mips(vm_j)
+    double execTime(int cloudlet, int vm) {
+        return (double) length[cloudlet] / capacity[vm];
+    }
+
+    // Fitness function: minimize makespan (Equation 1 from paper)
+    // Load per VM ditulis ke vmLoad agar bisa disimpan bersama individunya
+    double makespan(int[] assign, double[] vmLoad) {
+        evaluations.increment();
+        Arrays.fill(vmLoad, 0);
+        long[] len = length;
+        double[] cap = capacity;
+        for (int i = 0; i < cloudletCount; i++) {
+            int vmIdx = assign[i];
+            vmLoad[vmIdx] += (double) len[i] / cap[vmIdx];
+        }
+        // Makespan = maximum completion time
+        double max = 0;
+        for (double v : vmLoad) max = Math.max(max, v);
+        return max;
+    }
+}
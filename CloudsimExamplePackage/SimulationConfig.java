@@ -0,0 +1,156 @@
+package CloudsimExamplePackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// ====================================================================
+// Parameter satu run simulasi. Nilai default diambil dari konstanta
+// ExampleClass; mode sweep dan JVM worker mengisinya dari pasangan
+// key=value sehingga topologi (atau file topologi), parameter DBO,
+// dataset, dan seed bisa diatur tanpa mengubah kode.
+// ====================================================================
+final class SimulationConfig {
+
+    // Key yang hanya menentukan ke mana output/cache ditulis, bukan hasil run
+    private static final List<String> OUTPUT_ONLY_KEYS =
+            Arrays.asList("dboTraceDir", "metricsDir", "scheduleCache", "scheduleCacheMaxMb");
+
+    int choice = 1;
+    int datacenterCount = ExampleClass.DATACENTER_COUNT;
+    int hostPerDatacenter = ExampleClass.HOST_PER_DATACENTER;
+    int vmPerHost = ExampleClass.VM_PER_HOST;
+    int pesPerVm = ExampleClass.PES_PER_VM;
+    String topology = "";         // file topologi (lihat Topology); kosong = datacenters x hostsPerDatacenter x vmsPerHost
+    int topologyScale = 1;        // pengali jumlah host per datacenter dan VM
+    int population = ExampleClass.POPULATION;
+    int maxIter = ExampleClass.MAX_ITER;
+    double probLocal = ExampleClass.PROB_LOCAL;
+    boolean greedySeed = false;   // populasi awal DBO diisi satu solusi MCT
+    long dboTimeBudgetMs = 0;     // 0 = tanpa batas waktu
+    long dboEvalBudget = 0;       // 0 = tanpa batas evaluasi fitness
+    int dboStallIters = 0;        // 0 = tanpa early stopping
+    String dboTraceDir = "";      // kosong = convergence trace tidak ditulis
+    int moArchive = 50;           // kapasitas arsip Pareto DBO multi-objektif
+    String moWeights = "1:1:1";   // bobot makespan:energi:biaya untuk memilih titik operasi dari arsip
+    String metricsDir = "";       // kosong = instrumentasi hanya dicetak ke console
+    String scheduleCache = "";    // direktori ScheduleCache (mis. .schedule-cache); kosong = cache mati
+    int scheduleCacheMaxMb = 64;  // batas total ukuran cache jadwal (LRU)
+    boolean scheduleWarmStart = false;  // saat miss, seed DBO dari jadwal cache berukuran sama
+    String streamPolicy = "leastLoad";  // mode streaming: leastLoad (O(log m)) atau mct (completion time)
+    String datasetPath = ExampleClass.DATASET_PATH;
+    long seed = ExampleClass.SEED;
+
+    static SimulationConfig defaults() {
+        return new SimulationConfig();
+    }
+
+    SimulationConfig copy() {
+        SimulationConfig c = new SimulationConfig();
+        for (String arg : toArgs()) c.set(arg);
+        return c;
+    }
+
+    // Format "key=value"
+    void set(String assignment) {
+        int eq = assignment.indexOf('=');
+        if (eq <= 0) throw new IllegalArgumentException("Expected key=value: " + assignment);
+        set(assignment.substring(0, eq).trim(), assignment.substring(eq + 1).trim());
+    }
+
+    void set(String key, String value) {
+        switch (key) {
+            case "mode": choice = Integer.parseInt(value); break;
+            case "datacenters": datacenterCount = Integer.parseInt(value); break;
+            case "hostsPerDatacenter": hostPerDatacenter = Integer.parseInt(value); break;
+            case "vmsPerHost": vmPerHost = Integer.parseInt(value); break;
+            case "pesPerVm": pesPerVm = Integer.parseInt(value); break;
+            case "topology": topology = value; break;
+            case "topologyScale": topologyScale = Integer.parseInt(value); break;
+            case "population": population = Integer.parseInt(value); break;
+            case "maxIter": maxIter = Integer.parseInt(value); break;
+            case "probLocal": probLocal = Double.parseDouble(value); break;
+            case "greedySeed": greedySeed = Boolean.parseBoolean(value); break;
+            case "dboTimeBudgetMs": dboTimeBudgetMs = Long.parseLong(value); break;
+            case "dboEvalBudget": dboEvalBudget = Long.parseLong(value); break;
+            case "dboStallIters": dboStallIters = Integer.parseInt(value); break;
+            case "dboTraceDir": dboTraceDir = value; break;
+            case "moArchive": moArchive = Integer.parseInt(value); break;
+            case "moWeights": moWeights = value; break;
+            case "metricsDir": metricsDir = value; break;
+            case "scheduleCache": scheduleCache = value; break;
+            case "scheduleCacheMaxMb": scheduleCacheMaxMb = Integer.parseInt(value); break;
+            case "scheduleWarmStart": scheduleWarmStart = Boolean.parseBoolean(value); break;
+            case "streamPolicy":
+                if (!value.equals("leastLoad") && !value.equals("mct")) {
+                    throw new IllegalArgumentException("streamPolicy must be leastLoad or mct: " + value);
+                }
+                streamPolicy = value;
+                break;
+            case "dataset": datasetPath = value; break;
+            case "seed": seed = Long.parseLong(value); break;
+            default: throw new IllegalArgumentException("Unknown config key: " + key);
+        }
+    }
+
+    // Urutan tetap; semua key, termasuk output (argumen JVM worker, kolom CSV/JSON)
+    List<String> toArgs() {
+        List<String> args = new ArrayList<>();
+        args.add("mode=" + choice);
+        args.add("datacenters=" + datacenterCount);
+        args.add("hostsPerDatacenter=" + hostPerDatacenter);
+        args.add("vmsPerHost=" + vmPerHost);
+        args.add("pesPerVm=" + pesPerVm);
+        args.add("topology=" + topology);
+        args.add("topologyScale=" + topologyScale);
+        args.add("population=" + population);
+        args.add("maxIter=" + maxIter);
+        args.add("probLocal=" + probLocal);
+        args.add("greedySeed=" + greedySeed);
+        args.add("dboTimeBudgetMs=" + dboTimeBudgetMs);
+        args.add("dboEvalBudget=" + dboEvalBudget);
+        args.add("dboStallIters=" + dboStallIters);
+        args.add("dboTraceDir=" + dboTraceDir);
+        args.add("moArchive=" + moArchive);
+        args.add("moWeights=" + moWeights);
+        args.add("metricsDir=" + metricsDir);
+        args.add("scheduleCache=" + scheduleCache);
+        args.add("scheduleCacheMaxMb=" + scheduleCacheMaxMb);
+        args.add("scheduleWarmStart=" + scheduleWarmStart);
+        args.add("streamPolicy=" + streamPolicy);
+        args.add("dataset=" + datasetPath);
+        args.add("seed=" + seed);
+        return args;
+    }
+
+    // Kunci unik sel sweep (resume) dan dasar keyHash(); tanpa OUTPUT_ONLY_KEYS
+    String key() {
+        List<String> args = new ArrayList<>();
+        for (String arg : toArgs()) {
+            if (!OUTPUT_ONLY_KEYS.contains(arg.substring(0, arg.indexOf('=')))) args.add(arg);
+        }
+        return String.join(";", args);
+    }
+
+    // Kunci lama (mis. dari JSON-lines sweep sebelumnya) ke bentuk key() saat ini; apa adanya jika tidak dikenal
+    static String canonicalKey(String key) {
+        SimulationConfig cfg = new SimulationConfig();
+        try {
+            for (String arg : key.split(";")) cfg.set(arg);
+        } catch (IllegalArgumentException e) {
+            return key;
+        }
+        return cfg.key();
+    }
+
+    // FNV-1a 64-bit dari key(), 16 hex; nama file dan label per konfigurasi
+    String keyHash() {
+        long h = 0xcbf29ce484222325L;
+        String key = key();
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return String.format("%016x", h);
+    }
+}
@@ -0,0 +1,250 @@
+package CloudsimExamplePackage;
+
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.UtilizationModel;
+import org.cloudbus.cloudsim.UtilizationModelFull;
+import org.cloudbus.cloudsim.Vm;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimEvent;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// ====================================================================
+// Broker mode streaming: cloudlet dibaca satu per satu dari sumbernya
+// dan dilepas ke datacenter saat waktu simulasi mencapai arrival-nya.
+// Setiap cloudlet ditugaskan saat tiba lewat VmLoadIndex. Load VM adalah
+// total MI cloudlet in-flight (dilepas tetapi belum kembali) dibagi
+// kapasitas VM; load hanya turun saat cloudlet kembali, jadi progres
+// cloudlet yang sedang berjalan tidak dikurangkan dan load VM sibuk
+// sedikit ditaksir lebih tinggi.
+//
+// Kebijakan default leastLoad memilih VM dengan load terkecil (satu heap,
+// biaya keputusan O(log m)). Kebijakan mct (streamPolicy=mct) memilih VM
+// dengan estimasi completion time terkecil, load + length / kapasitas,
+// dengan biaya O(k + log m) untuk k kelas kapasitas VM: untuk VM dengan
+// MIPS acak (default 500-2000) k mendekati m.
+//
+// Hanya satu baris trace yang dibaca di depan, dan cloudlet yang sudah
+// kembali langsung diringkas lalu dibuang, jadi memori sebanding dengan
+// jumlah cloudlet in-flight, bukan panjang trace.
+// ====================================================================
+final class StreamingBroker extends MeteredBroker {
+
+    // Tag event internal; di luar rentang CloudSimTags
+    private static final int CLOUDLET_ARRIVAL = 970_001;
+
+    // Sumber cloudlet berurutan menurut waktu arrival
+    interface CloudletSource extends Closeable {
+        boolean next() throws IOException;
+        long length();
+        long fileSize();
+        long outputSize();
+        double arrival();  // detik; NaN = sama dengan baris sebelumnya
+    }
+
+    private final CloudletSource source;
+    private final int pesNumber;
+    private final boolean completionTime;    // streamPolicy=mct
+    private final UtilizationModel utilization = new UtilizationModelFull();
+
+    private VmLoadIndex index;
+    private int[] vmIds;
+    private long[] outstandingMi;            // MI cloudlet in-flight per indeks VM
+    private final Map<Integer, Integer> vmIndexById = new HashMap<>();
+
+    // Baris berikutnya yang belum dilepas
+    private boolean hasPending;
+    private long pendingLength, pendingFileSize, pendingOutputSize;
+    private double pendingArrival;
+    private double lastArrival;
+
+    private int nextCloudletId;
+    private boolean finished;
+
+    // Statistik
+    final Histogram decisionNanos = new Histogram();   // latensi keputusan scheduling (wall-clock)
+    final Histogram queueDelay = new Histogram();      // arrival -> mulai eksekusi (waktu simulasi)
+    final Histogram responseTime = new Histogram();    // arrival -> selesai (waktu simulasi)
+    long released;
+    long outOfOrder;                                   // arrival mundur, dilepas pada waktu baris sebelumnya
+    int maxInFlight;
+
+    StreamingBroker(String name, int[] datacenterIds, CloudletSource source, int pesNumber,
+                    String policy) throws Exception {
+        super(name, datacenterIds);
+        this.source = source;
+        this.pesNumber = pesNumber;
+        this.completionTime = policy.equals("mct");
+    }
+
+    // Dipanggil DatacenterBroker setelah semua VM dibuat: mulai melepas trace
+    @Override
+    protected void submitCloudlets() {
+        startMetrics();
+        List<Vm> vms = getVmsCreatedList();
+        int m = vms.size();
+        vmIds = new int[m];
+        double[] capacity = new double[m];
+        for (int j = 0; j < m; j++) {
+            Vm vm = vms.get(j);
+            vmIds[j] = vm.getId();
+            capacity[j] = vm.getMips() * vm.getNumberOfPes();
+            vmIndexById.put(vm.getId(), j);
+        }
+        index = completionTime ? new VmLoadIndex(capacity) : VmLoadIndex.leastLoad(capacity);
+        outstandingMi = new long[m];
+
+        readNext();
+        releaseDue();
+    }
+
+    @Override
+    protected void processOtherEvent(SimEvent ev) {
+        if (ev != null && ev.getTag() == CLOUDLET_ARRIVAL) {
+            releaseDue();
+        } else {
+            super.processOtherEvent(ev);
+        }
+    }
+
+    // Lepas semua cloudlet yang arrival-nya sudah lewat, lalu jadwalkan event arrival berikutnya
+    private void releaseDue() {
+        double now = CloudSim.clock();
+        while (hasPending && pendingArrival <= now) {
+            release(now);
+            readNext();
+        }
+        if (hasPending) {
+            schedule(getId(), pendingArrival - now, CLOUDLET_ARRIVAL);
+        } else {
+            finishIfDone();
+        }
+    }
+
+    private void release(double now) {
+        long start = System.nanoTime();
+        int vm = index.pick(pendingLength);
+        outstandingMi[vm] += pendingLength;
+        index.update(vm, outstandingMi[vm] / index.capacity(vm));
+        decisionNanos.record(System.nanoTime() - start);
+
+        StreamedCloudlet c = new StreamedCloudlet(nextCloudletId++, pendingLength, pesNumber,
+                pendingFileSize, pendingOutputSize, utilization, now);
+        c.setUserId(getId());
+        c.setVmId(vmIds[vm]);
+        sendNow(getVmsToDatacentersMap().get(vmIds[vm]), CloudSimTags.CLOUDLET_SUBMIT, c);
+        cloudletsSubmitted++;
+        released++;
+        maxInFlight = Math.max(maxInFlight, cloudletsSubmitted);
+    }
+
+    private void readNext() {
+        try {
+            hasPending = source.next();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!hasPending) return;
+        pendingLength = source.length();
+        pendingFileSize = source.fileSize();
+        pendingOutputSize = source.outputSize();
+        double arrival = source.arrival();
+        if (Double.isNaN(arrival)) {
+            arrival = lastArrival;
+        } else if (arrival < lastArrival) {
+            outOfOrder++;
+            arrival = lastArrival;
+        }
+        pendingArrival = arrival;
+        lastArrival = arrival;
+    }
+
+    // Cloudlet kembali: ringkas ke RunMetrics dan statistik lalu lepaskan (tidak disimpan di received list)
+    @Override
+    protected void processCloudletReturn(SimEvent ev) {
+        Cloudlet c = (Cloudlet) ev.getData();
+        double arrival = ((StreamedCloudlet) c).arrivalTime;
+        metrics.add(c);
+        queueDelay.record(c.getExecStartTime() - arrival);
+        responseTime.record(c.getFinishTime() - arrival);
+
+        int vm = vmIndexById.get(c.getVmId());
+        outstandingMi[vm] -= c.getCloudletLength();
+        index.update(vm, outstandingMi[vm] / index.capacity(vm));
+
+        cloudletsSubmitted--;
+        finishIfDone();
+    }
+
+    private void finishIfDone() {
+        if (!finished && !hasPending && cloudletsSubmitted == 0) {
+            finished = true;
+            clearDatacenters();
+            finishExecution();
+        }
+    }
+
+    // Cloudlet yang membawa waktu arrival-nya untuk menghitung latensi saat kembali
+    private static final class StreamedCloudlet extends Cloudlet {
+        final double arrivalTime;
+
+        StreamedCloudlet(int id, long length, int pes, long fileSize, long outputSize,
+                         UtilizationModel model, double arrivalTime) {
+            super(id, length, pes, fileSize, outputSize, model, model, model);
+            this.arrivalTime = arrivalTime;
+        }
+    }
+
+    // ====================================================================
+    // Sumber sintetis jika dataset tidak ditemukan: panjang sama seperti
+    // fallback mode batch, arrival dengan jeda eksponensial (Poisson)
+    // ====================================================================
+
+    static CloudletSource randomSource(int count, Random rng, double meanGap) {
+        return new CloudletSource() {
+            private int produced;
+            private long length;
+            private double arrival;
+
+            @Override
+            public boolean next() {
+                if (produced == count) return false;
+                length = 5000 + rng.nextInt(15000);
+                if (produced > 0) arrival += -Math.log(1 - rng.nextDouble()) * meanGap;
+                produced++;
+                return true;
+            }
+
+            @Override
+            public long length() {
+                return length;
+            }
+
+            @Override
+            public long fileSize() {
+                return DatasetLoader.DEFAULT_SIZE;
+            }
+
+            @Override
+            public long outputSize() {
+                return DatasetLoader.DEFAULT_SIZE;
+            }
+
+            @Override
+            public double arrival() {
+                return arrival;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
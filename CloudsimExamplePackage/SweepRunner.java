@@ -0,0 +1,428 @@
+package CloudsimExamplePackage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+// ====================================================================
+// Mode sweep headless (ExampleClass --sweep <file>). File konfigurasi
+// berformat properties; setiap key SimulationConfig boleh berisi
+// beberapa nilai dipisah koma dan grid-nya adalah cartesian product
+// dari semua nilai tersebut, contoh:
+//
+//   mode=2,3
+//   vmsPerHost=3,6,12
+//   maxIter=100,200
+//   dataset=data/a.txt,data/b.txt
+//   seed=42,43,44
+//   parallelism=8            (default: jumlah core)
+//   output=results/sweep     (menulis results/sweep.csv dan .jsonl)
+//   screenTop=20             (opsional: hanya 20 sel terbaik menurut
+//   screenMetric=makespan     surrogate ContentionModel yang disimulasikan)
+//
+// Setiap sel dijalankan di JVM worker (lihat ParallelExperiment).
+// Hasil ditulis ke CSV dan JSON-lines begitu sel selesai; saat
+// dijalankan ulang, sel yang sudah ada di file JSON-lines dilewati
+// sehingga sweep yang terputus bisa dilanjutkan.
+// ====================================================================
+final class SweepRunner {
+
+    // Dimensi grid = semua key SimulationConfig, dengan urutan SimulationConfig.toArgs
+    private static final List<String> GRID_KEYS = new ArrayList<>();
+
+    static {
+        for (String arg : SimulationConfig.defaults().toArgs()) {
+            GRID_KEYS.add(arg.substring(0, arg.indexOf('=')));
+        }
+    }
+
+    // Grammar number JSON (RFC 8259); "+42", "05", "0x1p3", "1." dsb. ditulis sebagai string
+    private static final Pattern JSON_NUMBER = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+
+    private SweepRunner() {
+    }
+
+    static void run(Path configFile) throws IOException {
+        Properties props = new Properties();
+        try (Reader r = Files.newBufferedReader(configFile, StandardCharsets.UTF_8)) {
+            props.load(r);
+        }
+
+        int parallelism = Integer.parseInt(props.getProperty("parallelism",
+                Integer.toString(Runtime.getRuntime().availableProcessors())));
+        String output = props.getProperty("output", "sweep-results");
+        Path csv = Paths.get(output + ".csv");
+        Path jsonl = Paths.get(output + ".jsonl");
+
+        for (String name : props.stringPropertyNames()) {
+            if (!name.equals("parallelism") && !name.equals("output") && !name.equals("screenTop")
+                    && !name.equals("screenMetric") && !GRID_KEYS.contains(name)) {
+                throw new IllegalArgumentException("Unknown sweep key: " + name);
+            }
+        }
+
+        List<SimulationConfig> grid = expand(props);
+        int screenTop = Integer.parseInt(props.getProperty("screenTop", "0"));
+        if (screenTop > 0) {
+            grid = screen(grid, screenTop, props.getProperty("screenMetric", "makespan"),
+                    Paths.get(output + ".screen.csv"), parallelism);
+        }
+        Set<String> done = readCompletedKeys(jsonl);
+        List<SimulationConfig> pending = new ArrayList<>();
+        for (SimulationConfig cfg : grid) {
+            if (!done.contains(cfg.key())) pending.add(cfg);
+        }
+
+        System.out.printf("Sweep: %d sel (%d sudah selesai, %d dijalankan) dengan %d worker paralel%n",
+                grid.size(), grid.size() - pending.size(), pending.size(), parallelism);
+        if (pending.isEmpty()) return;
+
+        if (csv.toAbsolutePath().getParent() != null) Files.createDirectories(csv.toAbsolutePath().getParent());
+        boolean newCsv = !Files.exists(csv) || Files.size(csv) == 0;
+        terminateLastLine(csv);
+        terminateLastLine(jsonl);
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        try (BufferedWriter csvOut = Files.newBufferedWriter(csv, StandardCharsets.UTF_8,
+                     StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+             BufferedWriter jsonOut = Files.newBufferedWriter(jsonl, StandardCharsets.UTF_8,
+                     StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (newCsv) {
+                csvOut.write(csvHeader());
+                csvOut.newLine();
+                csvOut.flush();
+            }
+
+            CompletionService<CellResult> completion = new ExecutorCompletionService<>(pool);
+            for (SimulationConfig cfg : pending) {
+                completion.submit(() -> {
+                    long start = System.nanoTime();
+                    ParallelExperiment.WorkerResult r = ParallelExperiment.launchWorker(cfg);
+                    return new CellResult(cfg, r.metrics, (System.nanoTime() - start) / 1e6);
+                });
+            }
+
+            // Ditulis sesuai urutan selesai, di-flush per sel agar aman jika proses dihentikan
+            int succeeded = 0;
+            int failed = 0;
+            boolean interrupted = false;
+            for (int i = 1; i <= pending.size(); i++) {
+                CellResult cell;
+                try {
+                    cell = completion.take().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    interrupted = true;
+                    break;
+                } catch (ExecutionException e) {
+                    e.getCause().printStackTrace();
+                    failed++;
+                    continue;
+                }
+
+                if (cell.metrics == null) {
+                    // Sel gagal tidak dicatat, sehingga dicoba lagi saat sweep dilanjutkan
+                    System.err.println("⚠️ Sel gagal: " + cell.cfg.key());
+                    failed++;
+                    continue;
+                }
+                csvOut.write(csvRow(cell));
+                csvOut.newLine();
+                csvOut.flush();
+                jsonOut.write(jsonRow(cell));
+                jsonOut.newLine();
+                jsonOut.flush();
+                succeeded++;
+
+                System.out.printf("[%d/%d] %s | Makespan=%.2f | %.0f ms%n",
+                        i, pending.size(), cell.cfg.key(), cell.metrics.makespan(), cell.wallMs);
+            }
+            System.out.printf("Sweep %s: %d berhasil, %d gagal, %d belum dijalankan -> %s, %s%n",
+                    interrupted ? "dihentikan" : "selesai", succeeded, failed,
+                    pending.size() - succeeded - failed, csv, jsonl);
+        } finally {
+            pool.shutdownNow();
+            ParallelExperiment.destroyWorkers();
+        }
+    }
+
+    private static final class CellResult {
+        final SimulationConfig cfg;
+        final RunMetrics metrics;
+        final double wallMs;
+
+        CellResult(SimulationConfig cfg, RunMetrics metrics, double wallMs) {
+            this.cfg = cfg;
+            this.metrics = metrics;
+            this.wallMs = wallMs;
+        }
+    }
+
+    // Cartesian product dari semua nilai per key
+    private static List<SimulationConfig> expand(Properties props) {
+        List<SimulationConfig> grid = new ArrayList<>();
+        grid.add(SimulationConfig.defaults());
+        for (String key : GRID_KEYS) {
+            String raw = props.getProperty(key);
+            if (raw == null) continue;
+            List<SimulationConfig> next = new ArrayList<>();
+            for (SimulationConfig cfg : grid) {
+                for (String value : raw.split(",")) {
+                    if (value.trim().isEmpty()) continue;
+                    SimulationConfig c = cfg.copy();
+                    c.set(key, value.trim());
+                    next.add(c);
+                }
+            }
+            grid = next;
+        }
+        return grid;
+    }
+
+    // ====================================================================
+    // Pre-screening: setiap sel dijadwalkan lalu diestimasi ContentionModel
+    // (tanpa CloudSim) di JVM worker PREDICT_FLAG, `parallelism` sekaligus
+    // (predict memakai rng static ExampleClass, jadi tidak in-process), dan
+    // hanya `top` sel terbaik yang dikirim ke worker simulasi. Estimasi
+    // tidak menulis trace DBO maupun ScheduleCache. Seluruh grid selalu
+    // di-screen (bukan hanya sel pending) agar pilihan finalis sama saat
+    // sweep dilanjutkan. Semua estimasi ditulis ke <output>.screen.csv,
+    // terurut dari yang terbaik. Sel streaming tidak bisa diestimasi dan
+    // selalu disimulasikan; sel yang estimasinya gagal tidak ikut.
+    // ====================================================================
+
+    private static List<SimulationConfig> screen(List<SimulationConfig> grid, int top, String metric, Path out,
+                                                 int parallelism) throws IOException {
+        if (!Arrays.asList(RunMetrics.NAMES).contains(metric)) {
+            throw new IllegalArgumentException("Unknown screenMetric: " + metric);
+        }
+        if (grid.size() <= top) return grid;
+
+        long start = System.nanoTime();
+        List<CellResult> predicted = new ArrayList<>();
+        Set<String> kept = new HashSet<>();
+        int failed = 0;
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        try {
+            List<Future<CellResult>> futures = new ArrayList<>();
+            for (SimulationConfig cfg : grid) {
+                if (cfg.choice == ExampleClass.STREAMING_MODE) {
+                    kept.add(cfg.key());
+                    continue;
+                }
+                // Output-only: hasil sama, tanpa file trace/cache dari estimasi
+                SimulationConfig estimate = cfg.copy();
+                estimate.dboTraceDir = "";
+                estimate.scheduleCache = "";
+                futures.add(pool.submit(() -> {
+                    long cellStart = System.nanoTime();
+                    ParallelExperiment.WorkerResult r =
+                            ParallelExperiment.launchWorker(ParallelExperiment.PREDICT_FLAG, estimate);
+                    return new CellResult(cfg, r.metrics, (System.nanoTime() - cellStart) / 1e6);
+                }));
+            }
+            for (Future<CellResult> f : futures) {
+                CellResult cell;
+                try {
+                    cell = f.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Screening dihentikan");
+                } catch (ExecutionException e) {
+                    e.getCause().printStackTrace();
+                    failed++;
+                    continue;
+                }
+                if (cell.metrics == null) {
+                    System.err.println("⚠️ Estimasi gagal: " + cell.cfg.key());
+                    failed++;
+                    continue;
+                }
+                predicted.add(cell);
+            }
+        } finally {
+            pool.shutdownNow();
+            ParallelExperiment.destroyWorkers();
+        }
+
+        boolean descending = RunMetrics.higherIsBetter(metric);
+        predicted.sort((a, b) -> descending
+                ? Double.compare(b.metrics.value(metric), a.metrics.value(metric))
+                : Double.compare(a.metrics.value(metric), b.metrics.value(metric)));
+        if (out.toAbsolutePath().getParent() != null) Files.createDirectories(out.toAbsolutePath().getParent());
+        try (BufferedWriter w = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            w.write(csvHeader());
+            w.newLine();
+            for (int i = 0; i < predicted.size(); i++) {
+                w.write(csvRow(predicted.get(i)));
+                w.newLine();
+                if (i < top) kept.add(predicted.get(i).cfg.key());
+            }
+        }
+
+        List<SimulationConfig> finalists = new ArrayList<>();
+        for (SimulationConfig cfg : grid) {
+            if (kept.contains(cfg.key())) finalists.add(cfg);
+        }
+        System.out.printf("Screening: %d sel diestimasi surrogate dalam %.0f ms (%d gagal), %d terbaik menurut %s "
+                        + "(+%d sel streaming) disimulasikan penuh -> %s%n",
+                predicted.size(), (System.nanoTime() - start) / 1e6, failed, Math.min(top, predicted.size()), metric,
+                grid.size() - predicted.size() - failed, out);
+        return finalists;
+    }
+
+    // ====================================================================
+    // Resume: kunci sel yang sudah selesai dibaca dari file JSON-lines
+    // ====================================================================
+
+    private static Set<String> readCompletedKeys(Path jsonl) throws IOException {
+        Set<String> keys = new HashSet<>();
+        if (!Files.exists(jsonl)) return keys;
+        try (BufferedReader br = Files.newBufferedReader(jsonl, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                // Baris terakhir yang terpotong (proses dihentikan saat menulis) diabaikan
+                if (!line.startsWith("{\"key\":\"") || !line.endsWith("}")) continue;
+                keys.add(SimulationConfig.canonicalKey(readJsonString(line, "{\"key\":\"".length())));
+            }
+        }
+        return keys;
+    }
+
+    // Pastikan append berikutnya dimulai di baris baru walau baris terakhir terpotong
+    private static void terminateLastLine(Path file) throws IOException {
+        if (!Files.exists(file) || Files.size(file) == 0) return;
+        byte[] last = new byte[1];
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ch.read(ByteBuffer.wrap(last), ch.size() - 1);
+            if (last[0] != '\n') ch.write(ByteBuffer.wrap(new byte[]{'\n'}), ch.size());
+        }
+    }
+
+    // ====================================================================
+    // Format output
+    // ====================================================================
+
+    private static String csvHeader() {
+        StringBuilder sb = new StringBuilder("modeName");
+        for (String key : GRID_KEYS) sb.append(',').append(key);
+        for (String name : RunMetrics.NAMES) sb.append(',').append(name);
+        sb.append(",wallMs");
+        return sb.toString();
+    }
+
+    private static String csvRow(CellResult cell) {
+        StringBuilder sb = new StringBuilder(csvField(ExampleClass.schedulingModeName(cell.cfg.choice)));
+        for (String arg : cell.cfg.toArgs()) {
+            sb.append(',').append(csvField(arg.substring(arg.indexOf('=') + 1)));
+        }
+        for (double value : cell.metrics.values().values()) sb.append(',').append(value);
+        sb.append(',').append(cell.wallMs);
+        return sb.toString();
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String jsonRow(CellResult cell) {
+        StringBuilder sb = new StringBuilder("{\"key\":");
+        jsonString(sb, cell.cfg.key());
+        sb.append(",\"modeName\":");
+        jsonString(sb, ExampleClass.schedulingModeName(cell.cfg.choice));
+        for (String arg : cell.cfg.toArgs()) {
+            int eq = arg.indexOf('=');
+            sb.append(",\"").append(arg, 0, eq).append("\":");
+            jsonValue(sb, arg.substring(eq + 1));
+        }
+        sb.append(",\"metrics\":{");
+        boolean first = true;
+        for (Map.Entry<String, Double> e : cell.metrics.values().entrySet()) {
+            if (!first) sb.append(',');
+            first = false;
+            sb.append('"').append(e.getKey()).append("\":").append(jsonNumber(e.getValue()));
+        }
+        sb.append("},\"vmUtilization\":[");
+        for (int j = 0; j < cell.metrics.vmCount(); j++) {
+            if (j > 0) sb.append(',');
+            sb.append(jsonNumber(cell.metrics.vmUtilization(j)));
+        }
+        sb.append("],\"datacenterUtilization\":[");
+        for (int dc = 0; dc < cell.metrics.datacenterCount(); dc++) {
+            if (dc > 0) sb.append(',');
+            sb.append(jsonNumber(cell.metrics.datacenterUtilization(dc)));
+        }
+        sb.append("],\"wallMs\":").append(jsonNumber(cell.wallMs)).append('}');
+        return sb.toString();
+    }
+
+    // Angka/boolean apa adanya, selain itu string
+    static void jsonValue(StringBuilder sb, String value) {
+        if (isJsonLiteral(value)) sb.append(value);
+        else jsonString(sb, value);
+    }
+
+    private static boolean isJsonLiteral(String value) {
+        return value.equals("true") || value.equals("false") || JSON_NUMBER.matcher(value).matches();
+    }
+
+    // JSON tidak mengenal NaN/Infinity
+    private static String jsonNumber(double v) {
+        return Double.isFinite(v) ? Double.toString(v) : "null";
+    }
+
+    static void jsonString(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') sb.append('\\').append(c);
+            else if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+            else sb.append(c);
+        }
+        sb.append('"');
+    }
+
+    private static String readJsonString(String line, int from) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = from; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') break;
+            if (c == '\\' && i + 1 < line.length()) {
+                char e = line.charAt(++i);
+                if (e == 'u' && i + 4 < line.length()) {
+                    sb.append((char) Integer.parseInt(line.substring(i + 1, i + 5), 16));
+                    i += 4;
+                } else {
+                    sb.append(e);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
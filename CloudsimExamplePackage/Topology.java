@@ -0,0 +1,327 @@
+package CloudsimExamplePackage;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+// ====================================================================
+// Deskripsi infrastruktur: kelas host (spesifikasi + jumlah per
+// datacenter) dan campuran VM (bobot per kelas). Tanpa file topologi,
+// satu kelas host dan satu kelas VM dibangun dari datacenters x
+// hostsPerDatacenter x vmsPerHost dengan spesifikasi paper (ExampleClass),
+// sehingga hasil run lama tidak berubah. File topologi (topology=<file>)
+// berformat properties:
+//
+//   datacenters=20
+//   host.std.count=400            (host per datacenter; atau daftar per
+//   host.std.pes=4                 datacenter, mis. 400,400,0,... )
+//   host.std.mips=5000            (MIPS per PE)
+//   host.big.count=50
+//   host.big.pes=16
+//   host.big.ram=65536
+//   vmsPerHost=3                  (atau vms=<total>)
+//   vm.small.weight=3             (proporsi dalam campuran VM)
+//   vm.small.mips=500-1000        (rentang acak, batas atas eksklusif; atau satu nilai)
+//   vm.large.weight=1
+//   vm.large.mips=4000
+//   vm.large.ram=2048
+//
+// Field yang tidak diisi memakai konstanta ExampleClass (HOST_*, VM_*).
+// Host dalam satu datacenter diurutkan menurut nama kelas, dan kelas VM
+// dibagi merata sepanjang urutan VM (smooth weighted round robin).
+// topologyScale=s mengalikan jumlah host per datacenter dan jumlah VM.
+// ====================================================================
+final class Topology {
+
+    static final String DEFAULT_CLASS = "default";
+
+    static final class HostClass {
+        final String name;
+        final int[] count;   // host per datacenter
+        final int pes;
+        final int peMips;
+        final int ram;
+        final long bw;
+        final long storage;
+
+        HostClass(String name, int[] count, int pes, int peMips, int ram, long bw, long storage) {
+            this.name = name;
+            this.count = count;
+            this.pes = pes;
+            this.peMips = peMips;
+            this.ram = ram;
+            this.bw = bw;
+            this.storage = storage;
+        }
+    }
+
+    static final class VmClass {
+        final String name;
+        final int weight;
+        final int mipsMin;
+        final int mipsMax;   // eksklusif; sama dengan mipsMin = MIPS tetap (tanpa rng)
+        final int ram;
+        final long bw;
+        final long size;
+
+        VmClass(String name, int weight, int mipsMin, int mipsMax, int ram, long bw, long size) {
+            this.name = name;
+            this.weight = weight;
+            this.mipsMin = mipsMin;
+            this.mipsMax = mipsMax;
+            this.ram = ram;
+            this.bw = bw;
+            this.size = size;
+        }
+    }
+
+    final String source;   // path file topologi, atau "default"
+    final int datacenterCount;
+    final List<HostClass> hostClasses;
+    final List<VmClass> vmClasses;
+    final int vmCount;
+
+    private Topology(String source, int datacenterCount, List<HostClass> hostClasses, List<VmClass> vmClasses,
+                     int vmCount) {
+        this.source = source;
+        this.datacenterCount = datacenterCount;
+        this.hostClasses = hostClasses;
+        this.vmClasses = vmClasses;
+        this.vmCount = vmCount;
+    }
+
+    static Topology of(SimulationConfig cfg) {
+        Topology t;
+        if (cfg.topology.isEmpty()) {
+            t = uniform(cfg.datacenterCount, cfg.hostPerDatacenter, cfg.hostPerDatacenter * cfg.vmPerHost);
+        } else {
+            try {
+                t = load(Paths.get(cfg.topology));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read topology " + cfg.topology, e);
+            }
+        }
+        return cfg.topologyScale == 1 ? t : t.scaled(cfg.topologyScale);
+    }
+
+    // Topologi paper: host dan VM identik per datacenter
+    static Topology uniform(int datacenters, int hostsPerDatacenter, int vmsPerDatacenter) {
+        int[] count = new int[datacenters];
+        Arrays.fill(count, hostsPerDatacenter);
+        return new Topology("default", datacenters,
+                Collections.singletonList(defaultHost(DEFAULT_CLASS, count)),
+                Collections.singletonList(defaultVm(DEFAULT_CLASS)),
+                datacenters * vmsPerDatacenter);
+    }
+
+    private static HostClass defaultHost(String name, int[] count) {
+        return new HostClass(name, count, ExampleClass.HOST_PES, ExampleClass.HOST_PE_MIPS,
+                ExampleClass.HOST_RAM, ExampleClass.HOST_BW, ExampleClass.HOST_STORAGE);
+    }
+
+    // Heterogeneous VMs with different MIPS (500-2000 range), seperti createVMList sejak awal
+    private static VmClass defaultVm(String name) {
+        return new VmClass(name, 1, 500, 2000, ExampleClass.VM_RAM, ExampleClass.VM_BW, ExampleClass.VM_SIZE);
+    }
+
+    static Topology load(Path file) throws IOException {
+        Properties props = new Properties();
+        try (Reader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            props.load(r);
+        }
+
+        int datacenters = ExampleClass.DATACENTER_COUNT;
+        Integer vms = null;
+        int vmsPerHost = ExampleClass.VM_PER_HOST;
+        Map<String, Map<String, String>> hosts = new TreeMap<>();
+        Map<String, Map<String, String>> vmMix = new TreeMap<>();
+        for (String key : props.stringPropertyNames()) {
+            String value = props.getProperty(key).trim();
+            String[] parts = key.split("\\.");
+            if (key.equals("datacenters")) {
+                datacenters = Integer.parseInt(value);
+            } else if (key.equals("vms")) {
+                vms = Integer.parseInt(value);
+            } else if (key.equals("vmsPerHost")) {
+                vmsPerHost = Integer.parseInt(value);
+            } else if (parts.length == 3 && parts[0].equals("host")) {
+                hosts.computeIfAbsent(parts[1], k -> new TreeMap<>()).put(parts[2], value);
+            } else if (parts.length == 3 && parts[0].equals("vm")) {
+                vmMix.computeIfAbsent(parts[1], k -> new TreeMap<>()).put(parts[2], value);
+            } else {
+                throw new IllegalArgumentException("Unknown topology key in " + file + ": " + key);
+            }
+        }
+        if (datacenters < 1) throw new IllegalArgumentException("Topology needs datacenters >= 1: " + file);
+        if (hosts.isEmpty()) throw new IllegalArgumentException("Topology defines no host.<class>.count: " + file);
+
+        List<HostClass> hostClasses = new ArrayList<>();
+        for (Map.Entry<String, Map<String, String>> e : hosts.entrySet()) {
+            hostClasses.add(parseHost(e.getKey(), e.getValue(), datacenters));
+        }
+        List<VmClass> vmClasses = new ArrayList<>();
+        for (Map.Entry<String, Map<String, String>> e : vmMix.entrySet()) {
+            vmClasses.add(parseVm(e.getKey(), e.getValue()));
+        }
+        if (vmClasses.isEmpty()) vmClasses.add(defaultVm(DEFAULT_CLASS));
+
+        // CloudSim menolak datacenter tanpa PE
+        int hostCount = 0;
+        for (int dc = 0; dc < datacenters; dc++) {
+            int n = 0;
+            for (HostClass c : hostClasses) n += c.count[dc];
+            if (n == 0) throw new IllegalArgumentException("Datacenter " + dc + " has no hosts in " + file);
+            hostCount += n;
+        }
+        int vmCount = vms != null ? vms : hostCount * vmsPerHost;
+        return new Topology(file.toString(), datacenters, hostClasses, vmClasses, vmCount);
+    }
+
+    private static HostClass parseHost(String name, Map<String, String> fields, int datacenters) {
+        HostClass d = defaultHost(name, null);
+        String countSpec = fields.get("count");
+        if (countSpec == null) throw new IllegalArgumentException("host." + name + ".count is required");
+
+        // Satu nilai untuk semua datacenter, atau satu nilai per datacenter
+        String[] values = countSpec.split(",");
+        if (values.length != 1 && values.length != datacenters) {
+            throw new IllegalArgumentException("host." + name + ".count needs 1 or " + datacenters
+                    + " values: " + countSpec);
+        }
+        int[] count = new int[datacenters];
+        for (int dc = 0; dc < datacenters; dc++) {
+            count[dc] = Integer.parseInt(values[values.length == 1 ? 0 : dc].trim());
+            if (count[dc] < 0) throw new IllegalArgumentException("host." + name + ".count must be >= 0");
+        }
+
+        int pes = d.pes, peMips = d.peMips, ram = d.ram;
+        long bw = d.bw, storage = d.storage;
+        for (Map.Entry<String, String> f : fields.entrySet()) {
+            String v = f.getValue();
+            switch (f.getKey()) {
+                case "count": break;
+                case "pes": pes = Integer.parseInt(v); break;
+                case "mips": peMips = Integer.parseInt(v); break;
+                case "ram": ram = Integer.parseInt(v); break;
+                case "bw": bw = Long.parseLong(v); break;
+                case "storage": storage = Long.parseLong(v); break;
+                default: throw new IllegalArgumentException("Unknown host field: host." + name + "." + f.getKey());
+            }
+        }
+        if (pes < 1) throw new IllegalArgumentException("host." + name + ".pes must be >= 1");
+        return new HostClass(name, count, pes, peMips, ram, bw, storage);
+    }
+
+    private static VmClass parseVm(String name, Map<String, String> fields) {
+        VmClass d = defaultVm(name);
+        int weight = d.weight, mipsMin = d.mipsMin, mipsMax = d.mipsMax, ram = d.ram;
+        long bw = d.bw, size = d.size;
+        for (Map.Entry<String, String> f : fields.entrySet()) {
+            String v = f.getValue();
+            switch (f.getKey()) {
+                case "weight": weight = Integer.parseInt(v); break;
+                case "mips":
+                    int dash = v.indexOf('-');
+                    mipsMin = Integer.parseInt(dash < 0 ? v : v.substring(0, dash).trim());
+                    mipsMax = dash < 0 ? mipsMin : Integer.parseInt(v.substring(dash + 1).trim());
+                    break;
+                case "ram": ram = Integer.parseInt(v); break;
+                case "bw": bw = Long.parseLong(v); break;
+                case "size": size = Long.parseLong(v); break;
+                default: throw new IllegalArgumentException("Unknown VM field: vm." + name + "." + f.getKey());
+            }
+        }
+        if (weight < 1) throw new IllegalArgumentException("vm." + name + ".weight must be >= 1");
+        if (mipsMin < 1 || mipsMax < mipsMin) {
+            throw new IllegalArgumentException("vm." + name + ".mips must be a positive value or min-max range");
+        }
+        return new VmClass(name, weight, mipsMin, mipsMax, ram, bw, size);
+    }
+
+    // Jumlah host per datacenter dan VM dikali factor (spesifikasi dan campuran tetap)
+    Topology scaled(int factor) {
+        if (factor < 1) throw new IllegalArgumentException("topologyScale must be >= 1: " + factor);
+        List<HostClass> scaled = new ArrayList<>(hostClasses.size());
+        for (HostClass c : hostClasses) {
+            int[] count = new int[c.count.length];
+            for (int dc = 0; dc < count.length; dc++) count[dc] = Math.multiplyExact(c.count[dc], factor);
+            scaled.add(new HostClass(c.name, count, c.pes, c.peMips, c.ram, c.bw, c.storage));
+        }
+        return new Topology(source, datacenterCount, scaled, vmClasses, Math.multiplyExact(vmCount, factor));
+    }
+
+    int hostCount(int dc) {
+        int n = 0;
+        for (HostClass c : hostClasses) n += c.count[dc];
+        return n;
+    }
+
+    int hostCount() {
+        int n = 0;
+        for (int dc = 0; dc < datacenterCount; dc++) n += hostCount(dc);
+        return n;
+    }
+
+    // Kelas host per ID host di satu datacenter (ID = indeks, urut nama kelas)
+    HostClass[] hosts(int dc) {
+        HostClass[] hosts = new HostClass[hostCount(dc)];
+        int h = 0;
+        for (HostClass c : hostClasses) {
+            for (int k = 0; k < c.count[dc]; k++) hosts[h++] = c;
+        }
+        return hosts;
+    }
+
+    // Kelas VM per indeks VM: smooth weighted round robin, sehingga setiap
+    // prefix urutan VM mengikuti proporsi bobot
+    int[] vmClassSequence() {
+        int classes = vmClasses.size();
+        int[] sequence = new int[vmCount];
+        if (classes == 1) return sequence;
+        int total = 0;
+        for (VmClass c : vmClasses) total += c.weight;
+        int[] current = new int[classes];
+        for (int j = 0; j < vmCount; j++) {
+            int pick = 0;
+            for (int c = 0; c < classes; c++) {
+                current[c] += vmClasses.get(c).weight;
+                if (current[c] > current[pick]) pick = c;
+            }
+            current[pick] -= total;
+            sequence[j] = pick;
+        }
+        return sequence;
+    }
+
+    String describe() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Topology %s: %d datacenters, %d hosts, %d VMs", source, datacenterCount,
+                hostCount(), vmCount));
+        if (hostClasses.size() > 1 || vmClasses.size() > 1) {
+            sb.append(" | hosts");
+            for (HostClass c : hostClasses) {
+                int n = 0;
+                for (int k : c.count) n += k;
+                sb.append(String.format(" %s=%dx(%dPE@%d)", c.name, n, c.pes, c.peMips));
+            }
+            sb.append(" | VM mix");
+            for (VmClass c : vmClasses) {
+                sb.append(c.mipsMax > c.mipsMin
+                        ? String.format(" %s=%d:%d-%d", c.name, c.weight, c.mipsMin, c.mipsMax)
+                        : String.format(" %s=%d:%d", c.name, c.weight, c.mipsMin));
+            }
+        }
+        return sb.toString();
+    }
+}
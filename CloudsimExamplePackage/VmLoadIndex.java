@@ -0,0 +1,149 @@
+package CloudsimExamplePackage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// ====================================================================
+// Indeks load VM dengan dua kebijakan pick():
+//
+// - Completion time (konstruktor): VM dengan load(vm) + length /
+//   capacity(vm) terkecil. VM dikelompokkan per kelas kapasitas; di
+//   dalam satu kelas VM dengan load terkecil selalu yang terbaik, jadi
+//   setiap kelas cukup memakai min-heap atas load. pick() berbiaya O(k)
+//   dengan k jumlah kelas kapasitas (k = m jika semua kapasitas berbeda).
+// - Least-load (leastLoad()): VM dengan load terkecil, tanpa melihat
+//   length cloudlet. Semua VM berada di satu heap, pick() O(1).
+//
+// Heap bersifat terindeks (posisi setiap VM disimpan), sehingga load
+// boleh naik maupun turun dalam O(log m), mis. saat cloudlet selesai di
+// mode streaming.
+// ====================================================================
+final class VmLoadIndex {
+
+    private final double[] load;
+    private final double[] capacity;
+    private final CapacityClass[] classes;
+    private final int[] classOf;   // kelas kapasitas per VM
+    private final int[] position;  // posisi VM di heap kelasnya
+
+    VmLoadIndex(double[] capacity) {
+        this(capacity, true);
+    }
+
+    // Kebijakan least-load: satu heap untuk semua VM
+    static VmLoadIndex leastLoad(double[] capacity) {
+        return new VmLoadIndex(capacity, false);
+    }
+
+    private VmLoadIndex(double[] capacity, boolean byCapacity) {
+        int m = capacity.length;
+        load = new double[m];
+        this.capacity = capacity.clone();
+        classOf = new int[m];
+        position = new int[m];
+
+        Map<Double, List<Integer>> members = new HashMap<>();
+        List<Double> order = new ArrayList<>();
+        for (int j = 0; j < m; j++) {
+            Double cap = byCapacity ? capacity[j] : 0.0;
+            List<Integer> list = members.get(cap);
+            if (list == null) {
+                list = new ArrayList<>();
+                members.put(cap, list);
+                order.add(cap);
+            }
+            list.add(j);
+        }
+
+        classes = new CapacityClass[order.size()];
+        for (int c = 0; c < classes.length; c++) {
+            List<Integer> list = members.get(order.get(c));
+            int[] heap = new int[list.size()];
+            for (int k = 0; k < heap.length; k++) {
+                int vm = list.get(k);
+                heap[k] = vm;           // semua load awal 0, urutan indeks sudah heap yang valid
+                classOf[vm] = c;
+                position[vm] = k;
+            }
+            classes[c] = new CapacityClass(order.get(c), heap);
+        }
+    }
+
+    double load(int vm) {
+        return load[vm];
+    }
+
+    // Completion time: VM dengan load(vm) + length / capacity(vm) terkecil, seri -> kelas yang
+    // ditemukan lebih dulu. Least-load (satu kelas): langsung akar heap
+    int pick(double length) {
+        if (classes.length == 1) return classes[0].heap[0];
+        CapacityClass bestClass = null;
+        double bestFinish = Double.MAX_VALUE;
+        for (CapacityClass c : classes) {
+            double finish = load[c.heap[0]] + length / c.capacity;
+            if (finish < bestFinish) {
+                bestFinish = finish;
+                bestClass = c;
+            }
+        }
+        return bestClass.heap[0];
+    }
+
+    double capacity(int vm) {
+        return capacity[vm];
+    }
+
+    void update(int vm, double newLoad) {
+        double old = load[vm];
+        load[vm] = newLoad;
+        CapacityClass c = classes[classOf[vm]];
+        if (newLoad > old) siftDown(c.heap, position[vm]);
+        else if (newLoad < old) siftUp(c.heap, position[vm]);
+    }
+
+    private void siftDown(int[] heap, int pos) {
+        int n = heap.length;
+        int vm = heap[pos];
+        while (true) {
+            int child = 2 * pos + 1;
+            if (child >= n) break;
+            if (child + 1 < n && less(heap[child + 1], heap[child])) child++;
+            if (!less(heap[child], vm)) break;
+            heap[pos] = heap[child];
+            position[heap[pos]] = pos;
+            pos = child;
+        }
+        heap[pos] = vm;
+        position[vm] = pos;
+    }
+
+    private void siftUp(int[] heap, int pos) {
+        int vm = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) / 2;
+            if (!less(vm, heap[parent])) break;
+            heap[pos] = heap[parent];
+            position[heap[pos]] = pos;
+            pos = parent;
+        }
+        heap[pos] = vm;
+        position[vm] = pos;
+    }
+
+    // Load sama -> indeks VM lebih kecil didahulukan (deterministik)
+    private boolean less(int a, int b) {
+        return load[a] < load[b] || (load[a] == load[b] && a < b);
+    }
+
+    private static final class CapacityClass {
+        final double capacity;
+        final int[] heap;
+
+        CapacityClass(double capacity, int[] heap) {
+            this.capacity = capacity;
+            this.heap = heap;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package CloudsimExamplePackage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+// Data sintetis untuk benchmark, dengan rentang nilai yang sama dengan simulasi:
+// panjang cloudlet 5000-20000 MI, MIPS VM 500-2000 (lihat ExampleClass)
+final class BenchmarkData {
+
+    static final long SEED = 42;
+
+    private BenchmarkData() {
+    }
+
+    static long[] lengths(int cloudlets) {
+        SplittableRandom r = new SplittableRandom(SEED);
+        long[] length = new long[cloudlets];
+        for (int i = 0; i < cloudlets; i++) length[i] = 5000 + r.nextInt(15000);
+        return length;
+    }
+
+    static double[] capacities(int vms) {
+        SplittableRandom r = new SplittableRandom(SEED + 1);
+        double[] capacity = new double[vms];
+        for (int j = 0; j < vms; j++) capacity[j] = (500 + r.nextInt(1500)) * ExampleClass.PES_PER_VM;
+        return capacity;
+    }
+
+    static SchedulingModel model(int cloudlets, int vms) {
+        return SchedulingModel.of(lengths(cloudlets), capacities(vms));
+    }
+
+    // Dataset teks bergaya randomSimple: "length fileSize outputSize" per baris
+    static Path writeDataset(int cloudlets) throws IOException {
+        Path file = Files.createTempFile("bench-dataset-" + cloudlets + "-", ".txt");
+        SplittableRandom r = new SplittableRandom(SEED);
+        try (BufferedWriter w = Files.newBufferedWriter(file)) {
+            w.write("# synthetic benchmark dataset\n");
+            for (int i = 0; i < cloudlets; i++) {
+                w.write(Integer.toString(5000 + r.nextInt(15000)));
+                w.write(' ');
+                w.write(Integer.toString(100 + r.nextInt(500)));
+                w.write(".5 300\n");
+            }
+        }
+        return file;
+    }
+
+    // Scheduler dan loader mencetak progres ke stdout; dibungkam selama pengukuran
+    static PrintStream silenceStdout() {
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        return original;
+    }
+}
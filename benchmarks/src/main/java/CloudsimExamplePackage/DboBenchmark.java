@@ -0,0 +1,65 @@
+package CloudsimExamplePackage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// DBOAlgorithm lengkap (POPULATION x MAX_ITER). Jauh lebih mahal dari satu iterasi,
+// jadi ukuran workload dibatasi; skala besar diukur lewat SchedulingBenchmark.dboIteration
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class DboBenchmark {
+
+    @Param({"1000", "10000"})
+    int cloudlets;
+
+    @Param({"54", "540"})
+    int vms;
+
+    private SchedulingModel model;
+    private SimulationConfig config;
+    private PrintStream stdout;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        stdout = BenchmarkData.silenceStdout();
+        model = BenchmarkData.model(cloudlets, vms);
+        // Tanpa ScheduleCache: setiap sampel harus menjalankan pencarian DBO penuh
+        config = SimulationConfig.defaults();
+        config.scheduleCache = "";
+    }
+
+    // Seed sama setiap invocation agar kerja per sampel identik
+    @Setup(Level.Invocation)
+    public void reseed() {
+        ExampleClass.rng = new Random(ExampleClass.SEED);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public int[] dboAlgorithm() {
+        return ExampleClass.DBOAlgorithm(model, config);
+    }
+}
@@ -0,0 +1,84 @@
+package CloudsimExamplePackage;
+
+import org.cloudbus.cloudsim.Host;
+import org.cloudbus.cloudsim.Vm;
+import org.cloudbus.cloudsim.VmAllocationPolicy;
+import org.cloudbus.cloudsim.VmAllocationPolicySimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Penempatan seluruh VM topologi default (3 VM per host) lalu dealokasi
+// lagi, dengan IndexedVmAllocationPolicy dan VmAllocationPolicySimple
+// bawaan CloudSim (scan semua host per VM). Host dibangun sekali per trial
+// lewat ExampleClass.createHost; setiap operasi mengembalikan host kosong
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class InfrastructureBenchmark {
+
+    @Param({"100", "1000"})
+    int hosts;
+
+    private List<Host> hostList;
+    private List<Vm> vms;
+    private VmAllocationPolicy indexed;
+    private VmAllocationPolicy simple;
+    private PrintStream stdout;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        stdout = BenchmarkData.silenceStdout();
+        Topology topology = Topology.uniform(1, hosts, hosts * ExampleClass.VM_PER_HOST);
+        Topology.HostClass[] specs = topology.hosts(0);
+        hostList = new ArrayList<>(specs.length);
+        for (int i = 0; i < specs.length; i++) hostList.add(ExampleClass.createHost(i, specs[i]));
+        ExampleClass.rng = new Random(BenchmarkData.SEED);
+        vms = ExampleClass.createVMList(0, topology, ExampleClass.PES_PER_VM);
+        indexed = new IndexedVmAllocationPolicy(hostList);
+        simple = new VmAllocationPolicySimple(hostList);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public int placeIndexed() {
+        return placeAndFree(indexed);
+    }
+
+    @Benchmark
+    public int placeSimple() {
+        return placeAndFree(simple);
+    }
+
+    private int placeAndFree(VmAllocationPolicy policy) {
+        int placed = 0;
+        for (Vm vm : vms) {
+            if (policy.allocateHostForVm(vm)) placed++;
+        }
+        for (Vm vm : vms) policy.deallocateHostForVm(vm);
+        return placed;
+    }
+}
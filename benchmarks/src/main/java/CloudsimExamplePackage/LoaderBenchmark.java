@@ -0,0 +1,63 @@
+package CloudsimExamplePackage;
+
+import org.cloudbus.cloudsim.Cloudlet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Pembacaan dataset: parsing teks mentah (mmap) dan pembuatan objek Cloudlet
+// lewat loadCloudletsFromDataset (kolom diambil dari DatasetCache setelah pemanggilan pertama)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LoaderBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int cloudlets;
+
+    private Path dataset;
+    private PrintStream stdout;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        stdout = BenchmarkData.silenceStdout();
+        dataset = BenchmarkData.writeDataset(cloudlets);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.setOut(stdout);
+        Files.deleteIfExists(dataset);
+        Files.deleteIfExists(dataset.resolveSibling(dataset.getFileName() + DatasetCache.SUFFIX));
+    }
+
+    @Benchmark
+    public DatasetLoader.Columns parseText() throws IOException {
+        return DatasetLoader.load(dataset);
+    }
+
+    @Benchmark
+    public List<Cloudlet> loadCloudlets() {
+        return ExampleClass.loadCloudletsFromDataset(0, ExampleClass.PES_PER_VM, dataset.toString());
+    }
+}
@@ -0,0 +1,75 @@
+package CloudsimExamplePackage;
+
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.UtilizationModel;
+import org.cloudbus.cloudsim.UtilizationModelFull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// RunMetrics.add untuk setiap cloudlet (jalur yang dipanggil broker saat cloudlet
+// kembali). Cloudlet tidak dijalankan di CloudSim, jadi nilai metriknya tidak
+// bermakna; yang diukur hanya biaya getter, histogram, dan busy time per VM
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MetricsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int cloudlets;
+
+    @Param({"54", "540", "5400"})
+    int vms;
+
+    private List<Cloudlet> finished;
+    private int[] vmIds;
+    private int[] vmDatacenter;
+    private PrintStream stdout;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        stdout = BenchmarkData.silenceStdout();
+        UtilizationModel model = new UtilizationModelFull();
+        long[] length = BenchmarkData.lengths(cloudlets);
+        finished = new ArrayList<>(cloudlets);
+        for (int i = 0; i < cloudlets; i++) {
+            Cloudlet c = new Cloudlet(i, length[i], ExampleClass.PES_PER_VM, 300, 300, model, model, model);
+            c.setUserId(0);
+            c.setVmId(i % vms);
+            finished.add(c);
+        }
+        vmIds = new int[vms];
+        for (int j = 0; j < vms; j++) vmIds[j] = j;
+        vmDatacenter = new int[vms];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public RunMetrics aggregate() {
+        RunMetrics metrics = new RunMetrics(vmIds, vmDatacenter, 1);
+        for (Cloudlet c : finished) metrics.add(c);
+        return metrics;
+    }
+}
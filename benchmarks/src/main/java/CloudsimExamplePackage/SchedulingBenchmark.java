@@ -0,0 +1,98 @@
+package CloudsimExamplePackage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Hot path penjadwalan: Round Robin, satu iterasi DBO dan DBO multi-objektif,
+// kernel fitness makespan, dan estimasi surrogate ContentionModel untuk satu jadwal
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SchedulingBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int cloudlets;
+
+    @Param({"54", "540", "5400"})
+    int vms;
+
+    private SchedulingModel model;
+    private DboPopulation population;
+    private MultiObjectiveDbo multiObjective;
+    private int[] assignment;
+    private double[] load;
+    private ContentionModel surrogate;
+    private PrintStream stdout;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        stdout = BenchmarkData.silenceStdout();
+        model = BenchmarkData.model(cloudlets, vms);
+        population = new DboPopulation(model, ExampleClass.POPULATION, ExampleClass.PROB_LOCAL,
+                new SplittableRandom(BenchmarkData.SEED));
+        multiObjective = new MultiObjectiveDbo(model, ExampleClass.POPULATION, ExampleClass.PROB_LOCAL, 50,
+                ExampleClass.PES_PER_VM, new SplittableRandom(BenchmarkData.SEED));
+
+        SplittableRandom r = new SplittableRandom(BenchmarkData.SEED);
+        assignment = new int[cloudlets];
+        for (int i = 0; i < cloudlets; i++) assignment[i] = r.nextInt(vms);
+        load = new double[vms];
+
+        // Satu datacenter dengan host sebanyak VM, sehingga semua VM pasti bisa ditempatkan
+        SimulationConfig cfg = SimulationConfig.defaults();
+        cfg.datacenterCount = 1;
+        cfg.hostPerDatacenter = vms;
+        surrogate = ContentionModel.of(cfg, ExampleClass.createVMList(0, vms, ExampleClass.PES_PER_VM));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public int[] roundRobin() {
+        return ExampleClass.RoundRobinScheduling(model);
+    }
+
+    @Benchmark
+    public double dboIteration() {
+        population.iterate();
+        return population.bestFitness;
+    }
+
+    // Termasuk update arsip Pareto (Kung + crowding) atas populasi + arsip
+    @Benchmark
+    public int moIteration() {
+        multiObjective.iterate();
+        return multiObjective.archive.size();
+    }
+
+    @Benchmark
+    public double makespanFitness() {
+        return model.makespan(assignment, load);
+    }
+
+    @Benchmark
+    public RunMetrics surrogateEvaluate() {
+        return surrogate.evaluate(model, assignment);
+    }
+}
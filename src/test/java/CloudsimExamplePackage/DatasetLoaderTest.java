@@ -0,0 +1,184 @@
+package CloudsimExamplePackage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// DatasetLoader dibandingkan kolom per kolom dengan loader regex lama
+// (loadCloudletsFromDataset + parseToLong sebelum DatasetLoader) atas
+// dataset acak: pemisah campuran, desimal .5, tanda, eksponen, digit
+// panjang, token tidak valid, komentar, baris kosong, LF/CRLF/CR.
+class DatasetLoaderTest {
+
+    private static final int MAX_LINES = 200;
+
+    @TempDir
+    Path dir;
+
+    static LongStream seeds() {
+        return LongStream.range(0, 200);
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    void loadMatchesOriginalParser(long seed) throws IOException {
+        String text = randomDataset(new Random(seed));
+        Path file = dir.resolve("dataset.txt");
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+
+        List<long[]> expected = parseOriginal(file);
+        DatasetLoader.Columns actual = DatasetLoader.load(file);
+
+        assertEquals(expected.size(), actual.size, () -> "jumlah baris, dataset:\n" + escape(text));
+        for (int i = 0; i < actual.size; i++) {
+            long[] row = {actual.length[i], actual.fileSize[i], actual.outputSize[i]};
+            int line = i;
+            assertArrayEquals(expected.get(i), row, () -> "baris data " + line + ", dataset:\n" + escape(text));
+        }
+    }
+
+    // Satu-satunya beda yang disengaja: baris yang hanya berisi pemisah membuat
+    // loader lama crash (split menghasilkan array kosong); DatasetLoader melewatinya
+    @Test
+    void separatorOnlyLinesAreSkipped() throws IOException {
+        Path file = dir.resolve("separators.txt");
+        Files.write(file, "100,200,300\n,;\n ; \t,\n400\n".getBytes(StandardCharsets.UTF_8));
+
+        DatasetLoader.Columns cols = DatasetLoader.load(file);
+
+        assertEquals(2, cols.size);
+        assertArrayEquals(new long[]{100, 200, 300}, new long[]{cols.length[0], cols.fileSize[0], cols.outputSize[0]});
+        assertArrayEquals(new long[]{400, 300, 300}, new long[]{cols.length[1], cols.fileSize[1], cols.outputSize[1]});
+    }
+
+    // Loader lama apa adanya, tanpa objek Cloudlet; hanya baris hanya-pemisah yang dilewati
+    private static List<long[]> parseOriginal(Path file) throws IOException {
+        List<long[]> rows = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(new FileReader(file.toFile()))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;  // Skip empty and comment lines
+
+                try {
+                    String[] parts = line.split("[,;\\s]+");
+                    if (parts.length == 0) continue;
+
+                    long length = parseToLong(parts[0]);
+                    long fileSize = (parts.length > 1) ? parseToLong(parts[1]) : 300;
+                    long outputSize = (parts.length > 2) ? parseToLong(parts[2]) : 300;
+                    rows.add(new long[]{length, fileSize, outputSize});
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static long parseToLong(String value) {
+        try {
+            double doubleValue = Double.parseDouble(value);
+            return (long) Math.round(doubleValue);
+        } catch (NumberFormatException e) {
+            return 1000;
+        }
+    }
+
+    // ====================================================================
+    // ================== GENERATOR DATASET ACAK ==========================
+    // ====================================================================
+
+    private static final String[] SEPARATORS = {",", ";", " ", "\t", ", ", " ,", ";;", ",,", " ; ", "\t,\t", "\u000B", "\f"};
+    private static final String[] LINE_ENDS = {"\n", "\n", "\n", "\r\n", "\r"};
+    private static final String[] JUNK = {
+            "", "abc", "-", "+", ".", "e5", "1e", "1e+", "--1", "1.2.3", "12a", "0x10", "0x1p3", "1d", "2.5f",
+            "NaN", "Infinity", "-Infinity", "+Infinity", "1_000", "١٢", "é", "\u00A0", "#", "12#3"
+    };
+
+    private static String randomDataset(Random rnd) {
+        StringBuilder sb = new StringBuilder();
+        int lines = rnd.nextInt(MAX_LINES);
+        for (int l = 0; l < lines; l++) {
+            int kind = rnd.nextInt(20);
+            if (kind == 0) {
+                // baris kosong atau hanya whitespace
+                sb.append(rnd.nextBoolean() ? "" : "  \t");
+            } else if (kind == 1) {
+                sb.append(rnd.nextBoolean() ? "#" : "  # ").append("komentar ").append(randomNumber(rnd));
+            } else {
+                if (rnd.nextInt(8) == 0) sb.append(rnd.nextBoolean() ? "  " : SEPARATORS[rnd.nextInt(SEPARATORS.length)]);
+                int columns = 1 + rnd.nextInt(5);
+                for (int c = 0; c < columns; c++) {
+                    if (c > 0) sb.append(SEPARATORS[rnd.nextInt(SEPARATORS.length)]);
+                    sb.append(rnd.nextInt(10) == 0 ? JUNK[rnd.nextInt(JUNK.length)] : randomNumber(rnd));
+                }
+                if (rnd.nextInt(8) == 0) sb.append(rnd.nextBoolean() ? " \t" : SEPARATORS[rnd.nextInt(SEPARATORS.length)]);
+            }
+            // Baris terakhir kadang tanpa akhir baris
+            if (l < lines - 1 || rnd.nextBoolean()) sb.append(LINE_ENDS[rnd.nextInt(LINE_ENDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static String randomNumber(Random rnd) {
+        StringBuilder sb = new StringBuilder();
+        int sign = rnd.nextInt(6);
+        if (sign == 0) sb.append('-');
+        else if (sign == 1) sb.append('+');
+        switch (rnd.nextInt(8)) {
+            case 0:
+                // desimal .5 untuk aturan pembulatan Math.round (termasuk negatif)
+                sb.append(rnd.nextInt(100000)).append(".5");
+                break;
+            case 1:
+                sb.append(rnd.nextInt(1000)).append('.').append(digits(rnd, 1 + rnd.nextInt(20)));
+                break;
+            case 2:
+                sb.append(rnd.nextBoolean() ? "." + digits(rnd, 1 + rnd.nextInt(4)) : rnd.nextInt(1000) + ".");
+                break;
+            case 3:
+                sb.append(rnd.nextInt(100)).append(rnd.nextBoolean() ? 'e' : 'E');
+                if (rnd.nextBoolean()) sb.append(rnd.nextBoolean() ? '-' : '+');
+                sb.append(rnd.nextInt(25));
+                break;
+            case 4:
+                // banyak digit: di luar fast path dan di sekitar batas long
+                sb.append(1 + rnd.nextInt(9)).append(digits(rnd, 14 + rnd.nextInt(8)));
+                break;
+            case 5:
+                sb.append(digits(rnd, 1 + rnd.nextInt(4))).append(rnd.nextInt(1000));
+                break;
+            default:
+                sb.append(rnd.nextInt(100000));
+                break;
+        }
+        return sb.toString();
+    }
+
+    private static String digits(Random rnd, int count) {
+        StringBuilder sb = new StringBuilder(count);
+        for (int i = 0; i < count; i++) sb.append((char) ('0' + rnd.nextInt(10)));
+        return sb.toString();
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\r", "\\r").replace("\n", "\\n\n").replace("\t", "\\t")
+                   .replace("\u000B", "\\v").replace("\f", "\\f");
+    }
+}
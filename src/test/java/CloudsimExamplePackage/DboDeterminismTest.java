@@ -0,0 +1,142 @@
+package CloudsimExamplePackage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// ExampleClass.DBOAlgorithm (DboPopulation + AnytimeDbo, konfigurasi
+// default: tepat maxIter iterasi, tanpa cache/seed/budget) dibandingkan
+// dengan DBOAlgorithm asli (fitness dihitung ulang penuh, individu
+// di-clone) pada workload dan VM acak dengan seed rng yang sama: jadwal
+// harus sama persis, makespan sama sampai bit terakhir, dan konsumsi rng
+// sama.
+class DboDeterminismTest {
+
+    private static final int MAX_CLOUDLETS = 500;
+    private static final int MAX_VMS = 60;
+
+    private final Random savedRng = ExampleClass.rng;
+
+    @AfterEach
+    void restoreRng() {
+        ExampleClass.rng = savedRng;
+    }
+
+    static LongStream seeds() {
+        return LongStream.range(0, 20);
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    void dboMatchesOriginalDbo(long seed) {
+        Random rnd = new Random(seed);
+        int n = 1 + rnd.nextInt(MAX_CLOUDLETS);
+        int m = 1 + rnd.nextInt(MAX_VMS);
+        long[] length = new long[n];
+        for (int i = 0; i < n; i++) length[i] = 1000 + rnd.nextInt(20000);
+        double[] mips = new double[m];
+        int[] pes = new int[m];
+        double[] capacity = new double[m];
+        for (int j = 0; j < m; j++) {
+            mips[j] = 100 + rnd.nextInt(1000) + rnd.nextDouble();
+            pes[j] = 1 + rnd.nextInt(2);
+            capacity[j] = mips[j] * pes[j];
+        }
+        long runSeed = rnd.nextLong();
+        SimulationConfig cfg = SimulationConfig.defaults();
+
+        Random reference = new Random(runSeed);
+        double[] expectedFitness = new double[1];
+        int[] expected = dboOriginal(length, mips, pes, cfg.population, cfg.maxIter, cfg.probLocal,
+                reference, expectedFitness);
+
+        SchedulingModel model = SchedulingModel.of(length, capacity);
+        ExampleClass.rng = new Random(runSeed);
+        int[] actual = ExampleClass.DBOAlgorithm(model, cfg);
+
+        assertArrayEquals(expected, actual, "jadwal");
+        assertEquals(Double.doubleToLongBits(expectedFitness[0]),
+                Double.doubleToLongBits(model.makespan(actual, new double[m])), "bit makespan");
+        assertEquals(reference.nextLong(), ExampleClass.rng.nextLong(), "konsumsi rng");
+    }
+
+    // DBOAlgorithm sebelum fitness per individu di-cache, di atas array pengganti
+    // List<Cloudlet>/List<Vm>; hasil berupa jadwal per indeks cloudlet, makespan di bestOut[0]
+    private static int[] dboOriginal(long[] length, double[] mips, int[] pes, int populationSize, int maxIter,
+                                     double probLocal, Random rng, double[] bestOut) {
+        int nCloud = length.length;
+        int nVm = mips.length;
+
+        // Initialize population
+        List<int[]> population = new ArrayList<>();
+        for (int i = 0; i < populationSize; i++) {
+            int[] assign = new int[nCloud];
+            for (int j = 0; j < nCloud; j++) assign[j] = rng.nextInt(nVm);
+            population.add(assign);
+        }
+
+        // Fitness function: minimize makespan (Equation 1 from paper)
+        // ET(Cl_i, vm_j) = Cl_i_total / total_mips(vm_j)
+        java.util.function.Function<int[], Double> fitness = (assign) -> {
+            double[] vmLoad = new double[nVm];
+            for (int i = 0; i < nCloud; i++) {
+                int vmIdx = assign[i];
+                double execTime = (double) length[i] / (mips[vmIdx] * pes[vmIdx]);
+                vmLoad[vmIdx] += execTime;
+            }
+            // Makespan = maximum completion time
+            double max = 0;
+            for (double v : vmLoad) max = Math.max(max, v);
+            return max;
+        };
+
+        // Find initial best solution
+        double bestFitness = Double.MAX_VALUE;
+        int[] best = null;
+        for (int[] ind : population) {
+            double f = fitness.apply(ind);
+            if (f < bestFitness) {
+                bestFitness = f;
+                best = ind.clone();
+            }
+        }
+
+        // DBO iterations (Algorithm 1 from paper)
+        for (int iter = 0; iter < maxIter; iter++) {
+            for (int[] ind : population) {
+                int[] newInd = ind.clone();
+                for (int k = 0; k < nCloud; k++) {
+                    // Ball-rolling and breeding behavior
+                    if (rng.nextDouble() < 0.2) {
+                        newInd[k] = best[k];  // Follow best solution
+                    } else if (rng.nextDouble() < probLocal) {
+                        newInd[k] = rng.nextInt(nVm);  // Local search
+                    }
+                }
+                double newFit = fitness.apply(newInd);
+                double oldFit = fitness.apply(ind);
+                if (newFit < oldFit) System.arraycopy(newInd, 0, ind, 0, nCloud);
+            }
+
+            // Update best solution
+            for (int[] ind : population) {
+                double f = fitness.apply(ind);
+                if (f < bestFitness) {
+                    bestFitness = f;
+                    best = ind.clone();
+                }
+            }
+        }
+
+        bestOut[0] = bestFitness;
+        return best;
+    }
+}